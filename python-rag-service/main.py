@@ -170,7 +170,10 @@ async def ingest_recipe(
     file: UploadFile,
     fileName: str = Form(...),
     manufacturer: str = Form(...),
-    productName: str = Form(...)
+    productName: str = Form(...),
+    documentId: Optional[str] = Form(None),   # PDF SHA-256 (Spring outbox 재전송 시 같은 벡터 ID 로 덮어씀)
+    indexVersion: Optional[str] = Form(None),  # 청킹/임베딩 설정 버전 (메타데이터 기록용)
+    legacyName: Optional[List[str]] = Form(None)  # 같은 PDF 를 쓰는 다른 제품의 "제조사_제품명" (이전 ID 체계 벡터 삭제용)
 ):
     #     global vector_store, embedding_model, rag_chain, text_processor, redis_client
     # 1️⃣ PDF 텍스트 추출
@@ -185,51 +188,77 @@ async def ingest_recipe(
     # # B) 제목 후보 추출
     title_candidates = extract_title_candidates(pdf_bytes)
 
-    full_text = ""
+    # 페이지별 텍스트 - 검색 결과 메타데이터에 페이지 번호를 남김
+    page_texts = []
     # with pdfplumber.open(BytesIO(await file.read())) as pdf:   # 위에서 이미 한번 읽은 파일
     with pdfplumber.open(BytesIO(pdf_bytes)) as pdf:
-         for page in pdf.pages:
+         for page_no, page in enumerate(pdf.pages, start=1):
             text = page.extract_text() or ""
 
             if is_cid_text(text) or not contains_korean(text):
                 # OCR fallback
                 img = page.to_image(resolution=300).original
                 ocr_text = pytesseract.image_to_string(img, lang="kor")
-                full_text += ocr_text
+                page_texts.append((page_no, ocr_text))
 
                 ocr_title_candidates = extract_title_candidates_from_ocr_page2(page, lang="kor")
                 title_candidates.extend(ocr_title_candidates)
             else:
-                full_text += text
+                page_texts.append((page_no, text))
 
    # C) LLM으로 음식명만 확정
     recipe_titles = await filter_food_titles(title_candidates)
     logger.info(f'추출된 레시피 갯수 : {len(recipe_titles)}')
 
-    # 2️⃣ 청킹
-    splitter = RecursiveCharacterTextSplitter(chunk_size=800, chunk_overlap=100)
-    chunks = splitter.split_text(full_text)
+    # 2️⃣ 청킹 (페이지 단위)
+    splitter = RecursiveCharacterTextSplitter(
+        chunk_size=int(os.getenv("INGEST_CHUNK_SIZE", 800)),
+        chunk_overlap=int(os.getenv("INGEST_CHUNK_OVERLAP", 100))
+    )
+    chunk_pages = []
+    chunks = []
+    for page_no, text in page_texts:
+        for chunk in splitter.split_text(text):
+            chunk_pages.append(page_no)
+            chunks.append(chunk)
     
     # 3️⃣ 임베딩 생성
-    vectors = embedding_model.embed_batch(chunks)
+    vectors = embedding_model.embed_batch(chunks) if chunks else []
 
     # 4️⃣ Pinecone에 저장
     import hashlib
-    file_hash = hashlib.md5(f"{manufacturer}_{productName}".encode('utf-8')).hexdigest()   # id 식별
+    # id 식별 - documentId 가 있으면 파일 내용 기준, 없으면 이전 방식(제조사_제품명)
+    file_hash = documentId or hashlib.md5(f"{manufacturer}_{productName}".encode('utf-8')).hexdigest()
+
+    # 이전 벡터 정리 - 문서 전체
+    vector_store.delete_prefix(f"{file_hash}_")
+    # documentId 도입 전 ID 체계(md5(제조사_제품명)_{청크}) 벡터 - documentId 기준 삭제로는 지워지지 않음
+    if documentId:
+        for name in {f"{manufacturer}_{productName}", *(legacyName or [])}:
+            vector_store.delete_prefix(hashlib.md5(name.encode('utf-8')).hexdigest() + "_")
+
     upserts = []
+    chunk_index = {}
     for i, v in enumerate(vectors):
+        page_no = chunk_pages[i]
+        n = chunk_index.get(page_no, 0)
+        chunk_index[page_no] = n + 1
         upserts.append({
-            "id":  f"{file_hash}_{i}",
+            "id":  f"{file_hash}_p{page_no}_{n}",
             "values": v,
             "metadata": {
                 "manufacturer": manufacturer,
                 "productName": productName,
-                "chunk_id": i,
+                "chunk_id": n,
+                "page": page_no,
+                "documentId": file_hash,
+                "indexVersion": indexVersion or "",
                 "text": chunks[i]
             }
         })
 
-    vector_store.upsert(vectors=upserts)
+    if upserts:
+        vector_store.upsert(vectors=upserts)
 
     return {"status": "success", "chunks": len(chunks),"recipeTitles":recipe_titles, "fileName":f"{manufacturer}_{productName}.pdf"}
 
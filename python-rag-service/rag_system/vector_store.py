@@ -120,6 +120,20 @@ class PineconeVectorStore:
             logger.error(f"Delete error: {str(e)}")
             return False
     
+    def delete_prefix(self, prefix: str) -> int:
+        """Delete all vectors whose ID starts with prefix (serverless index)"""
+        deleted = 0
+        try:
+            for ids in self.index.list(prefix=prefix, namespace="default"):
+                if ids:
+                    self.index.delete(ids=ids, namespace="default")
+                    deleted += len(ids)
+            logger.debug(f"Deleted {deleted} vectors with prefix: {prefix}")
+        except Exception as e:
+            logger.error(f"Delete by prefix error: {str(e)}")
+            raise
+        return deleted
+    
     def get_index_stats(self) -> Dict:
         """Get index statistics"""
         try:
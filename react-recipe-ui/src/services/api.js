@@ -135,7 +135,13 @@ export const recipeService = {
 
   // 검색 이력 조회
   getSearchHistory: () =>
-    api.get('/recipes/history')
+    api.get('/recipes/history'),
+
+  // 인기 레시피 (appliance 지정 시 가전별)
+  getPopular: (appliance, limit = 10) =>
+    api.get('/recipes/popular', {
+      params: { appliance, limit }
+    })
 }
 
 // 즐겨찾기 서비스
@@ -152,13 +158,27 @@ export const favoriteService = {
   getFavorites: () =>
     api.get('/favorites'),
 
+  // 즐겨찾기 목록 페이지 조회 (cursor: 이전 응답의 nextCursor, 첫 페이지는 생략)
+  getFavoritesPage: (cursor, size = 20) =>
+    api.get('/favorites/page', {
+      params: { cursor, size }
+    }),
+
   // 특정 레시피가 즐겨찾기인지 확인
   isFavorited: (recipeId) =>
     api.get(`/favorites/check/${recipeId}`),
 
+  // 여러 레시피의 즐겨찾기 여부 일괄 확인 - { favoritedIds: [...] }
+  checkFavorites: (recipeIds) =>
+    api.post('/favorites/check', { recipeIds }),
+
   // 즐겨찾기 개수 조회
   getFavoriteCount: () =>
-    api.get('/favorites/count')
+    api.get('/favorites/count'),
+
+  // 레시피별 즐겨찾기 수
+  getRecipeFavoriteCount: (recipeId) =>
+    api.get(`/favorites/recipes/${recipeId}/count`)
 }
 
 
@@ -168,6 +188,26 @@ export const adminService = {
     api.post(`/admin/upload`,formData,{
       headers: { "Content-Type": "multipart/form-data" }
     }),
+  // 업로드 후 인덱싱 작업 상태 조회 (QUEUED → EXTRACTING → INDEXING → COMPLETED/FAILED)
+  getUploadJob: (jobId) =>
+    api.get(`/admin/upload/jobs/${jobId}`),
+  // 인덱싱 진행 이벤트 구독 (SSE) - 반환된 EventSource 는 화면을 벗어날 때 close()
+  subscribeUploadJob: (jobId, onEvent) => {
+    const source = new EventSource(`${api.defaults.baseURL}/admin/upload/jobs/${jobId}/events`, { withCredentials: true })
+    const phases = ['SAVED', 'QUEUED', 'SENDING', 'SENT', 'TITLES_EXTRACTED', 'PERSISTED', 'COMPLETED', 'RETRY', 'FAILED']
+    phases.forEach(phase => source.addEventListener(phase, e => {
+      onEvent(JSON.parse(e.data))
+      if (phase === 'COMPLETED' || phase === 'FAILED') source.close()
+    }))
+    return source
+  },
+  // ZIP(manifest.csv + PDF) 일괄 가져오기 → batchId 로 파일별 결과 조회
+  importZip: (zipFile) =>
+    api.post(`/admin/import`, zipFile, {
+      headers: { "Content-Type": "application/zip" }
+    }),
+  getImportBatch: (batchId) =>
+    api.get(`/admin/import/${batchId}`),
   getProducts: (category) => {
     return api.get(`/admin/products?category=${category}`)
   }   
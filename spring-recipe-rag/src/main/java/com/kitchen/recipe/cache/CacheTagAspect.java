@@ -0,0 +1,92 @@
+package com.kitchen.recipe.cache;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @CacheTags / @EvictCacheTags 처리
+ *
+ * - 캐시 인터셉터 안쪽에서 실행 (@EnableCaching order 가 더 앞) - 미적중으로 메서드가 실행된 경우에만 태그 계산
+ * - 삭제는 메서드가 정상 반환되고 condition 을 만족할 때만
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class CacheTagAspect {
+
+    private final CacheTagIndex cacheTagIndex;
+
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNames = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    @Around("@annotation(cacheTags)")
+    public Object recordTags(ProceedingJoinPoint pjp, CacheTags cacheTags) throws Throwable {
+        CacheTagContext.clear();   // 이전 호출에서 남은 태그
+        Object result = pjp.proceed();
+        if (result != null) {
+            EvaluationContext context = context(pjp, result);
+            CacheTagContext.set(cacheTags.cache(), result, evaluate(cacheTags.value(), context));
+        }
+        return result;
+    }
+
+    @AfterReturning(pointcut = "@annotation(evictCacheTags)", returning = "result")
+    public void evictTags(JoinPoint jp, EvictCacheTags evictCacheTags, Object result) {
+        EvaluationContext context = context(jp, result);
+        String condition = evictCacheTags.condition();
+        if (!condition.isEmpty() && !Boolean.TRUE.equals(expression(condition).getValue(context, Boolean.class))) {
+            return;
+        }
+        cacheTagIndex.evict(evaluate(evictCacheTags.value(), context));
+    }
+
+    private EvaluationContext context(JoinPoint jp, Object result) {
+        Method method = ((MethodSignature) jp.getSignature()).getMethod();
+        MethodBasedEvaluationContext context =
+                new MethodBasedEvaluationContext(jp.getTarget(), method, jp.getArgs(), parameterNames);
+        context.setVariable("result", result);
+        return context;
+    }
+
+    // 문자열/컬렉션 결과를 펼쳐서 태그 Set 으로
+    private Set<String> evaluate(String[] spels, EvaluationContext context) {
+        Set<String> tags = new LinkedHashSet<>();
+        for (String spel : spels) {
+            Object value = expression(spel).getValue(context);
+            if (value instanceof Collection<?> values) {
+                values.stream().filter(v -> v != null).forEach(v -> tags.add(v.toString()));
+            } else if (value != null) {
+                tags.add(value.toString());
+            }
+        }
+        return tags;
+    }
+
+    private Expression expression(String spel) {
+        return expressions.computeIfAbsent(spel, parser::parseExpression);
+    }
+}
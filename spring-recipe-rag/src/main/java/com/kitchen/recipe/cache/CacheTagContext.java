@@ -0,0 +1,36 @@
+package com.kitchen.recipe.cache;
+
+import java.util.Set;
+
+/**
+ * @CacheTags 메서드가 계산한 태그를 같은 스레드의 다음 캐시 저장에 넘김
+ * (CacheTagAspect 가 메서드 반환 직후 설정 → PolicyRedisCache.put 에서 꺼냄)
+ *
+ * - 반환값과 같은 객체를 저장할 때만 태그를 붙임 - 저장 전에 예외가 나서 남은 태그가 다른 값에 붙지 않도록
+ * - 적재 경로(PolicyRedisCache, CacheRefresher)는 finally 에서 clear
+ */
+public final class CacheTagContext {
+
+    private static final ThreadLocal<Pending> PENDING = new ThreadLocal<>();
+
+    private record Pending(String cacheName, Object value, Set<String> tags) {}
+
+    private CacheTagContext() {
+    }
+
+    static void set(String cacheName, Object value, Set<String> tags) {
+        PENDING.set(new Pending(cacheName, value, tags));
+    }
+
+    /** 이 캐시에 저장할 값의 태그를 꺼냄 (없거나 다른 캐시/값용이면 빈 Set), 항상 비움 */
+    public static Set<String> consume(String cacheName, Object value) {
+        Pending pending = PENDING.get();
+        PENDING.remove();
+        return pending != null && pending.cacheName().equals(cacheName) && pending.value() == value
+                ? pending.tags() : Set.of();
+    }
+
+    public static void clear() {
+        PENDING.remove();
+    }
+}
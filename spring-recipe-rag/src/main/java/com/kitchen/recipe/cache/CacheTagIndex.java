@@ -0,0 +1,148 @@
+package com.kitchen.recipe.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 태그 역색인 (Redis)
+ *
+ * - cache:tags:{태그} ZSET 에 캐시 키("캐시이름::키")를 만료 시각(ms)을 점수로 기록
+ * - 기록할 때 이미 만료된 키는 ZREMRANGEBYSCORE 로 제거, max-members 를 넘으면 만료가 가장 가까운 키부터
+ *   캐시 항목째 삭제 (추적하지 않는 항목이 남지 않도록) - 자주 쓰이는 태그도 크기가 제한됨
+ * - 태그 ZSET 자체는 가장 늦은 항목의 만료 시각에 만료
+ * - 태그로 삭제할 때는 Java 에서 ZPOPMIN 으로 나눠 꺼내 UNLINK (한 번의 스크립트로 Redis 를 오래 막지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheTagIndex {
+
+    private static final String TAG_PREFIX = "cache:tags:";   // 이전 SET 형식(cache:tag:)과 겹치지 않도록
+    private static final int EVICT_BATCH = 500;
+
+    // KEYS: 태그 ZSET 들, ARGV: 캐시 키, 현재 시각(ms), 만료 시각(ms), 태그별 최대 항목 수 - 잘라낸 항목 수 반환
+    private static final RedisScript<Long> TAG_SCRIPT = new DefaultRedisScript<>(
+            "local trimmed = 0 " +
+            "for _, tag in ipairs(KEYS) do " +
+            "  redis.call('ZREMRANGEBYSCORE', tag, '-inf', ARGV[2]) " +
+            "  redis.call('ZADD', tag, ARGV[3], ARGV[1]) " +
+            "  local over = redis.call('ZCARD', tag) - tonumber(ARGV[4]) " +
+            "  if over > 0 then " +
+            "    redis.call('DEL', unpack(redis.call('ZRANGE', tag, 0, over - 1))) " +
+            "    redis.call('ZREMRANGEBYRANK', tag, 0, over - 1) " +
+            "    trimmed = trimmed + over " +
+            "  end " +
+            "  local last = redis.call('ZRANGE', tag, -1, -1, 'WITHSCORES') " +
+            "  redis.call('PEXPIREAT', tag, last[2]) " +
+            "end " +
+            "return trimmed",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 만료 시간이 없는 캐시 항목의 추적 기간
+    @Value("${cache.tags.ttl-ms:43200000}")
+    private long tagTtlMs;
+
+    @Value("${cache.tags.max-members:10000}")
+    private int maxMembers;
+
+    /**
+     * 캐시 키에 태그 기록
+     * @param ttl 캐시 항목 만료 시간 (null/0 이면 tags.ttl-ms)
+     */
+    public void tag(String cacheKey, Collection<String> tags, Duration ttl) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = now + (ttl != null && !ttl.isZero() && !ttl.isNegative() ? ttl.toMillis() : tagTtlMs);
+        try {
+            Long trimmed = redisTemplate.execute(TAG_SCRIPT, tagKeys(tags), cacheKey,
+                    String.valueOf(now), String.valueOf(expiresAt), String.valueOf(maxMembers));
+            if (trimmed != null && trimmed > 0) {
+                meterRegistry.counter("recipe.cache.tag.trimmed").increment(trimmed);
+            }
+        } catch (RuntimeException e) {
+            // 태그가 빠진 항목은 TTL 로만 만료됨
+            log.warn("캐시 태그 기록 실패: {} - {}", cacheKey, e.getMessage());
+        }
+    }
+
+    /** 태그가 붙은 캐시 항목 삭제 - 트랜잭션 안이면 커밋 이후 */
+    public void evict(Collection<String> tags) {
+        if (tags.isEmpty()) {
+            return;
+        }
+        List<String> keys = tagKeys(tags);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(keys);
+                }
+            });
+        } else {
+            evictNow(keys);
+        }
+    }
+
+    // 태그별로 EVICT_BATCH 개씩 꺼내 아직 만료되지 않은 캐시 키만 삭제 (최대 max-members 범위까지)
+    void evictNow(List<String> tagKeys) {
+        long deleted = 0;
+        int maxBatches = maxMembers / EVICT_BATCH + 1;
+        try {
+            for (String tagKey : tagKeys) {
+                for (int i = 0; i < maxBatches; i++) {
+                    Set<TypedTuple<String>> batch = redisTemplate.opsForZSet().popMin(tagKey, EVICT_BATCH);
+                    if (batch == null || batch.isEmpty()) {
+                        break;
+                    }
+                    long now = System.currentTimeMillis();
+                    List<String> live = new ArrayList<>(batch.size());
+                    for (TypedTuple<String> member : batch) {
+                        if (member.getScore() != null && member.getScore() >= now) {
+                            live.add(member.getValue());
+                        }
+                    }
+                    if (!live.isEmpty()) {
+                        Long removed = redisTemplate.unlink(live);
+                        deleted += removed != null ? removed : 0;
+                    }
+                    if (batch.size() < EVICT_BATCH) {
+                        break;
+                    }
+                }
+            }
+            meterRegistry.counter("recipe.cache.tag.evictions").increment(deleted);
+            log.debug("캐시 태그 삭제: {} → {} 건", tagKeys, deleted);
+        } catch (RuntimeException e) {
+            log.warn("캐시 태그 삭제 실패: {} - {}", tagKeys, e.getMessage());
+        }
+    }
+
+    private static List<String> tagKeys(Collection<String> tags) {
+        List<String> keys = new ArrayList<>(tags.size());
+        for (String tag : tags) {
+            keys.add(TAG_PREFIX + tag);
+        }
+        return keys;
+    }
+}
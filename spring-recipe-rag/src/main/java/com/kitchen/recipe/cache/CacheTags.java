@@ -0,0 +1,24 @@
+package com.kitchen.recipe.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * @Cacheable 메서드가 저장하는 값의 태그 (SpEL, 결과는 문자열 또는 문자열 컬렉션)
+ * - 파라미터는 #이름, 반환값은 #result 로 참조
+ * - 예: @CacheTags(cache = "recipes_by_appliance", value = {"'appliance:' + #appliance", "#result.!['recipe:' + id]"})
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CacheTags {
+
+    /** 태그를 기록할 캐시 이름 (@Cacheable 의 value 와 같게) */
+    String cache();
+
+    /** 태그 SpEL 목록 */
+    String[] value();
+}
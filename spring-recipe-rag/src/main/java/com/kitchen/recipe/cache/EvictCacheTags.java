@@ -0,0 +1,23 @@
+package com.kitchen.recipe.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드가 성공하면 태그가 붙은 캐시 항목만 삭제 (트랜잭션 안이면 커밋 이후)
+ * - 예: @EvictCacheTags(value = "'recipe:' + #recipeId", condition = "#result")
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface EvictCacheTags {
+
+    /** 태그 SpEL 목록 */
+    String[] value();
+
+    /** 삭제 조건 SpEL (비어 있으면 항상), #result 사용 가능 */
+    String condition() default "";
+}
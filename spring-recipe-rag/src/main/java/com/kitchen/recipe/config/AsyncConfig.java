@@ -0,0 +1,79 @@
+package com.kitchen.recipe.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Value("${ingest.worker.pool-size:2}")
+    private int ingestPoolSize;
+
+    @Value("${ingest.worker.queue-capacity:50}")
+    private int ingestQueueCapacity;
+
+    @Value("${ingest.reindex.parallelism:2}")
+    private int reindexParallelism;
+
+    @Value("${ingest.progress.pool-size:2}")
+    private int progressPoolSize;
+
+    @Value("${ingest.progress.queue-capacity:1000}")
+    private int progressQueueCapacity;
+
+    @Value("${cache.refresh.pool-size:2}")
+    private int cacheRefreshPoolSize;
+
+    @Value("${cache.refresh.queue-capacity:100}")
+    private int cacheRefreshQueueCapacity;
+
+    // PDF 인덱싱 전용 워커 풀 - IngestOutboxRelay 가 남은 큐 용량만큼만 작업을 넘김
+    @Bean
+    public ThreadPoolTaskExecutor ingestExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(ingestPoolSize);
+        executor.setMaxPoolSize(ingestPoolSize);
+        executor.setQueueCapacity(ingestQueueCapacity);
+        executor.setThreadNamePrefix("ingest-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 재인덱싱 워커 풀 - 동시에 처리하는 책 수 제한 (나머지는 큐에서 대기)
+    @Bean
+    public ThreadPoolTaskExecutor reindexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(reindexParallelism);
+        executor.setMaxPoolSize(reindexParallelism);
+        executor.setThreadNamePrefix("reindex-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    // 인덱싱 진행 SSE 전송 풀 - 느린 구독자가 인덱싱 워커를 막지 않도록 전송만 따로 처리 (IngestProgressBroadcaster)
+    @Bean
+    public ThreadPoolTaskExecutor ingestProgressExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(progressPoolSize);
+        executor.setMaxPoolSize(progressPoolSize);
+        executor.setQueueCapacity(progressQueueCapacity);
+        executor.setThreadNamePrefix("ingest-progress-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    // 캐시 미리 갱신 풀 - 큐가 차면 갱신을 건너뜀 (CacheRefresher)
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cacheRefreshPoolSize);
+        executor.setMaxPoolSize(cacheRefreshPoolSize);
+        executor.setQueueCapacity(cacheRefreshQueueCapacity);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,130 @@
+package com.kitchen.recipe.config;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 재계산 lease (여러 인스턴스 간 동시 재계산 방지)
+ *
+ * - {캐시키}::lease 를 SET NX PX 로 잡은 인스턴스만 재계산
+ * - 못 잡은 인스턴스는 값이 채워지거나 lease 가 풀리기를 기다린 뒤 lease 를 다시 시도
+ *   (값이 저장되지 않았거나 lease-wait 을 넘기면 다시 잡은 한 곳만 재계산)
+ * - 해제는 토큰이 같을 때만 (lease 가 만료되어 다른 인스턴스가 잡은 경우 지우지 않음)
+ * - 지표: recipe.cache.lease{cache, result=acquired|busy|waited|released|timeout|forced}
+ */
+@Slf4j
+public class CacheLeases {
+
+    private static final String LEASE_SUFFIX = "::lease";
+    private static final long POLL_INTERVAL_MS = 50;
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry registry;
+
+    public CacheLeases(StringRedisTemplate redisTemplate, MeterRegistry registry) {
+        this.redisTemplate = redisTemplate;
+        this.registry = registry;
+    }
+
+    /**
+     * lease 획득 - 성공하면 해제용 토큰, 다른 인스턴스가 잡고 있으면 null
+     * (Redis 장애 시에는 lease 없이 진행하도록 토큰 반환)
+     */
+    String tryAcquire(String cacheName, String cacheKey, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(cacheKey + LEASE_SUFFIX, token, ttl);
+            if (!Boolean.TRUE.equals(acquired)) {
+                count(cacheName, "busy");
+                return null;
+            }
+        } catch (RuntimeException e) {
+            log.warn("캐시 lease 획득 실패 - lease 없이 계산: {}", e.getMessage());
+        }
+        count(cacheName, "acquired");
+        return token;
+    }
+
+    void release(String cacheKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(cacheKey + LEASE_SUFFIX), token);
+        } catch (RuntimeException e) {
+            // lease 는 TTL 로 만료됨
+            log.debug("캐시 lease 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    /** 기다린 결과 */
+    enum WaitResult { READY, RELEASED, TIMEOUT }
+
+    /**
+     * 다른 인스턴스의 재계산을 기다림 - 값이 생기면 READY, lease 가 풀렸는데 값이 없으면 RELEASED
+     * (값이 크기/입장 조건/빈 결과로 저장되지 않은 경우). 둘 다 아니면 wait 후 TIMEOUT.
+     * 캐시를 조회(get)하지 않고 EXISTS 로만 확인 - 대기 중 폴링이 적중/미적중 지표와 입장 sketch 에 잡히지 않도록
+     */
+    WaitResult await(String cacheName, byte[] valueKey, String cacheKey, Duration wait) {
+        byte[] leaseKey = (cacheKey + LEASE_SUFFIX).getBytes(StandardCharsets.UTF_8);
+        long deadline = System.nanoTime() + wait.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            WaitResult result = poll(valueKey, leaseKey);
+            if (result != null) {
+                count(cacheName, result == WaitResult.READY ? "waited" : "released");
+                return result;
+            }
+        }
+        count(cacheName, "timeout");
+        return WaitResult.TIMEOUT;
+    }
+
+    // 값 → READY, lease 없음 → RELEASED, 아직 계산 중 → null (Redis 장애 시 RELEASED - 호출자가 lease 를 다시 시도)
+    private WaitResult poll(byte[] valueKey, byte[] leaseKey) {
+        try {
+            List<Object> exists = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.keyCommands().exists(valueKey);
+                connection.keyCommands().exists(leaseKey);
+                return null;
+            });
+            if (Boolean.TRUE.equals(exists.get(0))) {
+                return WaitResult.READY;
+            }
+            return Boolean.TRUE.equals(exists.get(1)) ? null : WaitResult.RELEASED;
+        } catch (RuntimeException e) {
+            log.debug("캐시 lease 확인 실패: {}", e.getMessage());
+            return WaitResult.RELEASED;
+        }
+    }
+
+    /** lease 를 끝내 못 잡고 직접 계산 (lease 유지 시간이 지나도록 다른 인스턴스가 계속 잡고 있는 경우) */
+    void forced(String cacheName) {
+        count(cacheName, "forced");
+    }
+
+    private void count(String cacheName, String result) {
+        Counter.builder("recipe.cache.lease")
+                .tag("cache", cacheName).tag("result", result)
+                .description("캐시 재계산 lease")
+                .register(registry)
+                .increment();
+    }
+}
@@ -0,0 +1,73 @@
+package com.kitchen.recipe.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 캐시 이름별 정책 - application.yml 의 cache.defaults / cache.caches.{이름}
+ * (캐시별 항목에서 생략한 값은 defaults 를 따름)
+ */
+@Component
+@ConfigurationProperties(prefix = "cache")
+@Getter
+@Setter
+public class CachePolicyProperties {
+
+    private Policy defaults = new Policy(Duration.ofHours(1), DataSize.ofKilobytes(512), 0, true,
+            null, 0.0, null, Duration.ofSeconds(2));
+
+    private Map<String, Policy> caches = new LinkedHashMap<>();
+
+    /** 캐시 이름의 최종 정책 (defaults 와 병합) */
+    public Policy resolve(String cacheName) {
+        Policy own = caches.get(cacheName);
+        if (own == null) {
+            return defaults;
+        }
+        return new Policy(
+                own.ttl != null ? own.ttl : defaults.ttl,
+                own.maxValueSize != null ? own.maxValueSize : defaults.maxValueSize,
+                own.admitAfterMisses != null ? own.admitAfterMisses : defaults.admitAfterMisses,
+                own.cacheEmpty != null ? own.cacheEmpty : defaults.cacheEmpty,
+                own.refreshAhead != null ? own.refreshAhead : defaults.refreshAhead,
+                own.xfetchBeta != null ? own.xfetchBeta : defaults.xfetchBeta,
+                own.lease != null ? own.lease : defaults.lease,
+                own.leaseWait != null ? own.leaseWait : defaults.leaseWait);
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private Duration ttl;               // 항목 만료 시간
+        private DataSize maxValueSize;      // 직렬화 크기가 이보다 크면 저장하지 않음
+        private Integer admitAfterMisses;   // 같은 키가 이만큼 미적중한 뒤에야 저장 (0 이면 바로 저장)
+        private Boolean cacheEmpty;         // 빈 컬렉션/Map 결과 저장 여부
+        private Duration refreshAhead;      // 만료까지 이 시간 안에 조회되면 비동기 갱신 (sync=true 캐시만)
+        private Double xfetchBeta;          // 확률적 조기 갱신 강도 (0 이면 사용 안 함, 1 이 기본 권장값)
+        private Duration lease;             // 재계산 lease 유지 시간 - 설정 시 인스턴스 간 한 곳에서만 재계산
+        private Duration leaseWait;         // lease 를 못 잡았을 때 다른 인스턴스 결과를 기다리는 최대 시간
+
+        public Policy() {
+        }
+
+        Policy(Duration ttl, DataSize maxValueSize, Integer admitAfterMisses, Boolean cacheEmpty,
+               Duration refreshAhead, Double xfetchBeta, Duration lease, Duration leaseWait) {
+            this.ttl = ttl;
+            this.maxValueSize = maxValueSize;
+            this.admitAfterMisses = admitAfterMisses;
+            this.cacheEmpty = cacheEmpty;
+            this.refreshAhead = refreshAhead;
+            this.xfetchBeta = xfetchBeta;
+            this.lease = lease;
+            this.leaseWait = leaseWait;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.kitchen.recipe.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.kitchen.recipe.cache.CacheTagContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 미리 갱신 (refresh-ahead / 확률적 조기 만료)
+ *
+ * - 만료까지 남은 시간이 refresh-ahead 창 안이거나, XFetch 조건
+ *   (-재계산시간 * beta * ln(rand) >= 남은 TTL)을 만족하면 별도 풀에서 다시 적재
+ * - 갱신이 끝날 때까지 호출자는 기존 값을 그대로 받음
+ * - 같은 키는 인스턴스 안에서 한 번만, lease 가 있으면 인스턴스 간에도 한 번만 갱신
+ * - 풀/큐가 가득 차면 건너뜀 (항목은 TTL 대로 만료)
+ * - 지표: recipe.cache.refresh{cache, result=success|failure|rejected|leased}, recipe.cache.refresh.duration{cache}
+ */
+@Slf4j
+public class CacheRefresher {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final ThreadPoolTaskExecutor executor;
+    private final MeterRegistry registry;
+    private final CacheLeases leases;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    // 캐시별 재계산 시간 (ms, 지수 이동 평균) - XFetch 의 delta
+    private final Map<String, AtomicLong> loadMillis = new ConcurrentHashMap<>();
+
+    public CacheRefresher(RedisConnectionFactory connectionFactory, ThreadPoolTaskExecutor executor,
+                          MeterRegistry registry, CacheLeases leases) {
+        this.connectionFactory = connectionFactory;
+        this.executor = executor;
+        this.registry = registry;
+        this.leases = leases;
+    }
+
+    /**
+     * 적중한 항목이 갱신 대상인지 (남은 TTL 기준)
+     */
+    boolean isDue(String cacheName, byte[] binaryKey, Duration window, double beta) {
+        long ttl = remainingTtlMs(binaryKey);
+        if (ttl == Long.MAX_VALUE) {
+            return false;
+        }
+        if (window != null && ttl <= window.toMillis()) {
+            return true;
+        }
+        if (beta > 0) {
+            long delta = averageLoadMillis(cacheName);
+            double rand = 1.0 - ThreadLocalRandom.current().nextDouble();   // (0, 1]
+            return delta > 0 && -delta * beta * Math.log(rand) >= ttl;
+        }
+        return false;
+    }
+
+    boolean isRefreshing(String cacheKey) {
+        return inFlight.contains(cacheKey);
+    }
+
+    /**
+     * 비동기 갱신 예약 - lease 가 주어지면 잡은 경우에만 재계산
+     */
+    <T> void refreshAsync(Cache cache, Object key, String cacheKey, Callable<T> valueLoader, Duration lease) {
+        if (!inFlight.add(cacheKey)) {
+            return;
+        }
+        try {
+            executor.execute(() -> refresh(cache, key, cacheKey, valueLoader, lease));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(cacheKey);
+            count(cache.getName(), "rejected");
+        }
+    }
+
+    /**
+     * 재계산 시간을 측정하며 적재 (XFetch delta 갱신)
+     */
+    <T> T timed(String cacheName, Supplier<T> loader) {
+        long start = System.nanoTime();
+        try {
+            return loader.get();
+        } finally {
+            recordLoad(cacheName, System.nanoTime() - start);
+        }
+    }
+
+    private <T> void refresh(Cache cache, Object key, String cacheKey, Callable<T> valueLoader, Duration lease) {
+        String token = null;
+        try {
+            if (lease != null) {
+                token = leases.tryAcquire(cache.getName(), cacheKey, lease);
+                if (token == null) {
+                    count(cache.getName(), "leased");   // 다른 인스턴스가 갱신 중
+                    return;
+                }
+            }
+            long start = System.nanoTime();
+            T value = valueLoader.call();
+            long elapsed = System.nanoTime() - start;
+            recordLoad(cache.getName(), elapsed);
+            if (value != null) {
+                cache.put(key, value);
+            }
+            count(cache.getName(), "success");
+            Timer.builder("recipe.cache.refresh.duration")
+                    .tag("cache", cache.getName())
+                    .description("캐시 미리 갱신 소요 시간")
+                    .register(registry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+        } catch (Exception e) {
+            log.warn("캐시 미리 갱신 실패: {} - {}", cacheKey, e.getMessage());
+            count(cache.getName(), "failure");
+        } finally {
+            CacheTagContext.clear();
+            if (token != null) {
+                leases.release(cacheKey, token);
+            }
+            inFlight.remove(cacheKey);
+        }
+    }
+
+    // 남은 TTL (ms) - 만료 없음(-1)/키 없음(-2)/조회 실패 시 갱신하지 않도록 Long.MAX_VALUE
+    private long remainingTtlMs(byte[] binaryKey) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            Long ttl = connection.keyCommands().pTtl(binaryKey, TimeUnit.MILLISECONDS);
+            return ttl == null || ttl < 0 ? Long.MAX_VALUE : ttl;
+        } catch (RuntimeException e) {
+            log.debug("캐시 TTL 조회 실패: {}", e.getMessage());
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private long averageLoadMillis(String cacheName) {
+        AtomicLong avg = loadMillis.get(cacheName);
+        return avg != null ? avg.get() : 0;
+    }
+
+    // 새 값 1/4 반영
+    private void recordLoad(String cacheName, long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        loadMillis.computeIfAbsent(cacheName, n -> new AtomicLong(millis))
+                .updateAndGet(prev -> prev + (millis - prev) / 4);
+    }
+
+    private void count(String cacheName, String result) {
+        Counter.builder("recipe.cache.refresh")
+                .tag("cache", cacheName).tag("result", result)
+                .description("캐시 미리 갱신 결과")
+                .register(registry)
+                .increment();
+    }
+}
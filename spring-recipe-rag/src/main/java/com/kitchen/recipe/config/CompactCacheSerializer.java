@@ -0,0 +1,107 @@
+package com.kitchen.recipe.config;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+/**
+ * 캐시 값 코덱 - Smile(바이너리 JSON) + 임계값 이상이면 LZ4 압축
+ *
+ * 형식: [0xC5][버전][플래그] (+ LZ4 이면 원본 길이 4바이트) + 본문
+ * - 반복되는 클래스명/필드명은 Smile 공유 문자열 참조로 한 번만 기록
+ * - 헤더가 없는 값은 이전 JSON 형식으로 보고 legacy 직렬화기로 읽음 (배포 직후 기존 캐시 호환)
+ */
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xC5;
+    static final byte VERSION = 1;
+    private static final byte FLAG_LZ4 = 0x01;
+    private static final int HEADER_SIZE = 3;
+    private static final int MAX_DECOMPRESSED_SIZE = 64 * 1024 * 1024;
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final ObjectMapper smileMapper;
+    private final RedisSerializer<Object> legacySerializer;
+    private final int compressThreshold;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    // Redis 값은 손상/변조될 수 있으므로 입력 경계를 검사하는 safe 디코더 사용
+    private final LZ4SafeDecompressor decompressor = LZ4.safeDecompressor();
+
+    public CompactCacheSerializer(ObjectMapper smileMapper, RedisSerializer<Object> legacySerializer,
+                                  int compressThreshold) {
+        this.smileMapper = smileMapper;
+        this.legacySerializer = legacySerializer;
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] body;
+        try {
+            body = smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패: " + value.getClass().getName(), e);
+        }
+
+        if (body.length < compressThreshold) {
+            return ByteBuffer.allocate(HEADER_SIZE + body.length)
+                    .put(MAGIC).put(VERSION).put((byte) 0)
+                    .put(body)
+                    .array();
+        }
+
+        byte[] compressed = new byte[compressor.maxCompressedLength(body.length)];
+        int compressedLength = compressor.compress(body, 0, body.length, compressed, 0, compressed.length);
+        return ByteBuffer.allocate(HEADER_SIZE + 4 + compressedLength)
+                .put(MAGIC).put(VERSION).put(FLAG_LZ4)
+                .putInt(body.length)
+                .put(compressed, 0, compressedLength)
+                .array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return legacySerializer.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_SIZE || bytes[1] != VERSION) {
+            throw new SerializationException("지원하지 않는 캐시 값 버전: " + (bytes.length > 1 ? bytes[1] : -1));
+        }
+
+        try {
+            if ((bytes[2] & FLAG_LZ4) == 0) {
+                return smileMapper.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, Object.class);
+            }
+            int originalLength = ByteBuffer.wrap(bytes, HEADER_SIZE, 4).getInt();
+            if (originalLength < 0 || originalLength > MAX_DECOMPRESSED_SIZE) {
+                throw new SerializationException("잘못된 캐시 값 길이: " + originalLength);
+            }
+            byte[] body = new byte[originalLength];
+            int decompressed = decompressor.decompress(bytes, HEADER_SIZE + 4, bytes.length - HEADER_SIZE - 4,
+                    body, 0, originalLength);
+            if (decompressed != originalLength) {
+                throw new SerializationException("잘못된 캐시 값 길이: " + decompressed + " != " + originalLength);
+            }
+            return smileMapper.readValue(body, Object.class);
+        } catch (SerializationException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("캐시 값 역직렬화 실패", e);
+        }
+    }
+}
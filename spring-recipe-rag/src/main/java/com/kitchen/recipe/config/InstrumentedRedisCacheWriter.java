@@ -0,0 +1,205 @@
+package com.kitchen.recipe.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 캐시 이름별 지표를 남기는 RedisCacheWriter 데코레이터
+ *
+ * - recipe.cache.gets{result=hit|miss}, recipe.cache.puts, recipe.cache.evictions
+ * - recipe.cache.latency{operation=get|put|evict} (Redis 왕복 시간)
+ * - recipe.cache.payload{operation=get|put} (직렬화된 값 크기, bytes)
+ */
+public class InstrumentedRedisCacheWriter implements RedisCacheWriter {
+
+    private static final double[] PAYLOAD_BUCKETS = {
+            DataSize.ofKilobytes(1).toBytes(), DataSize.ofKilobytes(4).toBytes(),
+            DataSize.ofKilobytes(16).toBytes(), DataSize.ofKilobytes(64).toBytes(),
+            DataSize.ofKilobytes(256).toBytes(), DataSize.ofMegabytes(1).toBytes()
+    };
+
+    private final RedisCacheWriter delegate;
+    private final MeterRegistry registry;
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public InstrumentedRedisCacheWriter(RedisCacheWriter delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        long start = System.nanoTime();
+        byte[] value = delegate.get(name, key);
+        recordGet(name, value, start);
+        return value;
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key, Duration ttl) {
+        long start = System.nanoTime();
+        byte[] value = delegate.get(name, key, ttl);
+        recordGet(name, value, start);
+        return value;
+    }
+
+    @Override
+    public boolean supportsAsyncRetrieve() {
+        return delegate.supportsAsyncRetrieve();
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key, Duration ttl) {
+        long start = System.nanoTime();
+        return delegate.retrieve(name, key, ttl).whenComplete((value, error) -> {
+            if (error == null) {
+                recordGet(name, value, start);
+            }
+        });
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        long start = System.nanoTime();
+        delegate.put(name, key, value, ttl);
+        recordPut(name, value, start);
+    }
+
+    @Override
+    public CompletableFuture<Void> store(String name, byte[] key, byte[] value, Duration ttl) {
+        long start = System.nanoTime();
+        return delegate.store(name, key, value, ttl).whenComplete((ignored, error) -> {
+            if (error == null) {
+                recordPut(name, value, start);
+            }
+        });
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        long start = System.nanoTime();
+        byte[] existing = delegate.putIfAbsent(name, key, value, ttl);
+        if (existing == null) {
+            recordPut(name, value, start);
+        }
+        return existing;
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        long start = System.nanoTime();
+        delegate.remove(name, key);
+        recordEvict(name, start);
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        long start = System.nanoTime();
+        delegate.clean(name, pattern);
+        recordEvict(name, start);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new InstrumentedRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector), registry);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return delegate.getCacheStatistics(cacheName);
+    }
+
+    private void recordGet(String name, byte[] value, long start) {
+        Meters m = meters(name);
+        m.getLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (value != null) {
+            m.hits.increment();
+            m.getPayload.record(value.length);
+        } else {
+            m.misses.increment();
+        }
+    }
+
+    private void recordPut(String name, byte[] value, long start) {
+        Meters m = meters(name);
+        m.putLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        m.puts.increment();
+        if (value != null) {
+            m.putPayload.record(value.length);
+        }
+    }
+
+    private void recordEvict(String name, long start) {
+        Meters m = meters(name);
+        m.evictLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        m.evictions.increment();
+    }
+
+    private Meters meters(String name) {
+        return meters.computeIfAbsent(name, n -> new Meters(registry, n));
+    }
+
+    // 캐시 이름별 미터 (요청마다 레지스트리를 조회하지 않도록 보관)
+    private static final class Meters {
+        final Counter hits;
+        final Counter misses;
+        final Counter puts;
+        final Counter evictions;
+        final Timer getLatency;
+        final Timer putLatency;
+        final Timer evictLatency;
+        final DistributionSummary getPayload;
+        final DistributionSummary putPayload;
+
+        Meters(MeterRegistry registry, String cache) {
+            hits = Counter.builder("recipe.cache.gets").tag("cache", cache).tag("result", "hit")
+                    .description("캐시 조회 (적중)").register(registry);
+            misses = Counter.builder("recipe.cache.gets").tag("cache", cache).tag("result", "miss")
+                    .description("캐시 조회 (미적중)").register(registry);
+            puts = Counter.builder("recipe.cache.puts").tag("cache", cache)
+                    .description("캐시 저장").register(registry);
+            evictions = Counter.builder("recipe.cache.evictions").tag("cache", cache)
+                    .description("캐시 삭제 (단건/전체)").register(registry);
+            getLatency = latency(registry, cache, "get");
+            putLatency = latency(registry, cache, "put");
+            evictLatency = latency(registry, cache, "evict");
+            getPayload = payload(registry, cache, "get");
+            putPayload = payload(registry, cache, "put");
+        }
+
+        private static Timer latency(MeterRegistry registry, String cache, String operation) {
+            return Timer.builder("recipe.cache.latency")
+                    .tag("cache", cache).tag("operation", operation)
+                    .description("Redis 캐시 왕복 시간")
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+
+        private static DistributionSummary payload(MeterRegistry registry, String cache, String operation) {
+            return DistributionSummary.builder("recipe.cache.payload")
+                    .tag("cache", cache).tag("operation", operation)
+                    .baseUnit("bytes")
+                    .description("직렬화된 캐시 값 크기")
+                    .serviceLevelObjectives(PAYLOAD_BUCKETS)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.kitchen.recipe.config;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import com.kitchen.recipe.cache.CacheTagContext;
+import com.kitchen.recipe.cache.CacheTagIndex;
+import com.kitchen.recipe.config.CachePolicyProperties.Policy;
+
+/**
+ * 캐시 이름별 정책(TTL, 빈 결과 저장 여부, 미리 갱신, 재계산 lease)을 적용하는 RedisCacheManager
+ * (크기 제한/입장 조건은 PolicyRedisCacheWriter 에서 적용, 저장 시 @CacheTags 태그 기록)
+ */
+public class PolicyRedisCacheManager extends RedisCacheManager {
+
+    private final CachePolicyProperties properties;
+    private final CacheRefresher refresher;
+    private final CacheLeases leases;
+    private final CacheTagIndex tagIndex;
+
+    public PolicyRedisCacheManager(RedisCacheWriter cacheWriter, RedisCacheConfiguration defaultConfig,
+                                   Map<String, RedisCacheConfiguration> initialCaches,
+                                   CachePolicyProperties properties, CacheRefresher refresher,
+                                   CacheLeases leases, CacheTagIndex tagIndex) {
+        super(cacheWriter, defaultConfig, true, initialCaches);
+        this.properties = properties;
+        this.refresher = refresher;
+        this.leases = leases;
+        this.tagIndex = tagIndex;
+    }
+
+    @Override
+    protected RedisCache createRedisCache(String name, RedisCacheConfiguration cacheConfiguration) {
+        Policy policy = properties.resolve(name);
+        return new PolicyRedisCache(name, getCacheWriter(), cacheConfiguration.entryTtl(policy.getTtl()),
+                policy, refresher, leases, tagIndex);
+    }
+
+    /**
+     * - cacheEmpty=false 이면 빈 컬렉션/Map/배열 결과는 저장하지 않음
+     * - sync=true 조회에서
+     *   - 적중: 만료가 가까우면(refreshAhead 창 또는 XFetch) 비동기로 다시 적재
+     *   - 미적중: lease 가 설정되어 있으면 lease 를 잡은 인스턴스만 계산하고 나머지는 값이 생기거나
+ *     lease 가 풀릴 때까지 대기 후 다시 시도 (lease 없이 계산하는 곳이 생기지 않도록)
+     */
+    static class PolicyRedisCache extends RedisCache {
+
+        private final Policy policy;
+        private final CacheRefresher refresher;
+        private final CacheLeases leases;
+        private final CacheTagIndex tagIndex;
+
+        PolicyRedisCache(String name, RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfiguration,
+                         Policy policy, CacheRefresher refresher, CacheLeases leases, CacheTagIndex tagIndex) {
+            super(name, cacheWriter, cacheConfiguration);
+            this.policy = policy;
+            this.refresher = refresher;
+            this.leases = leases;
+            this.tagIndex = tagIndex;
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            Set<String> tags = CacheTagContext.consume(getName(), value);
+            if (policy.getCacheEmpty() || !isEmpty(value)) {
+                super.put(key, value);
+                if (!PolicyRedisCacheWriter.consumeRejected()) {   // 크기/입장 조건으로 저장되지 않았으면 태그도 없음
+                    tagIndex.tag(createCacheKey(key), tags, policy.getTtl());
+                }
+            }
+        }
+
+        @Override
+        public ValueWrapper putIfAbsent(Object key, Object value) {
+            Set<String> tags = CacheTagContext.consume(getName(), value);
+            if (policy.getCacheEmpty() || !isEmpty(value)) {
+                ValueWrapper existing = super.putIfAbsent(key, value);
+                if (existing == null && !PolicyRedisCacheWriter.consumeRejected()) {
+                    tagIndex.tag(createCacheKey(key), tags, policy.getTtl());
+                }
+                return existing;
+            }
+            return get(key);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            // sync=true 경로 - 저장이 항상 put 을 거치도록 직접 처리
+            String cacheKey = createCacheKey(key);
+            ValueWrapper hit = get(key);
+            if (hit != null) {
+                if (refreshEnabled() && !refresher.isRefreshing(cacheKey)
+                        && refresher.isDue(getName(), serializeCacheKey(cacheKey),
+                                policy.getRefreshAhead(), beta())) {
+                    refresher.refreshAsync(this, key, cacheKey, valueLoader, policy.getLease());
+                }
+                return (T) hit.get();
+            }
+
+            if (policy.getLease() == null) {
+                return load(key, valueLoader);
+            }
+            String token = leases.tryAcquire(getName(), cacheKey, policy.getLease());
+            // lease 보유자는 최대 lease 시간까지만 잡고 있을 수 있음
+            long deadline = System.nanoTime() + policy.getLease().toNanos() + policy.getLeaseWait().toNanos();
+            while (token == null) {
+                // 다른 인스턴스가 계산 중 - 값이 생기면 사용, 저장되지 않았거나 오래 걸리면 lease 재시도
+                if (leases.await(getName(), serializeCacheKey(cacheKey), cacheKey, policy.getLeaseWait())
+                        == CacheLeases.WaitResult.READY) {
+                    ValueWrapper computed = get(key);
+                    if (computed != null) {
+                        return (T) computed.get();
+                    }
+                }
+                token = leases.tryAcquire(getName(), cacheKey, policy.getLease());
+                if (token == null && System.nanoTime() - deadline >= 0) {
+                    leases.forced(getName());
+                    return load(key, valueLoader);
+                }
+            }
+            try {
+                return load(key, valueLoader);
+            } finally {
+                leases.release(cacheKey, token);
+            }
+        }
+
+        private <T> T load(Object key, Callable<T> valueLoader) {
+            try {
+                T value = refresher.timed(getName(), () -> loadCacheValue(key, valueLoader));
+                if (value != null) {
+                    put(key, value);   // 빈 결과는 put 에서 걸러짐
+                }
+                return value;
+            } finally {
+                CacheTagContext.clear();   // 저장 전에 실패해도 태그가 스레드에 남지 않도록
+            }
+        }
+
+        private boolean refreshEnabled() {
+            return (policy.getRefreshAhead() != null && !policy.getRefreshAhead().isZero()) || beta() > 0;
+        }
+
+        private double beta() {
+            return policy.getXfetchBeta() != null ? policy.getXfetchBeta() : 0;
+        }
+
+        private static boolean isEmpty(Object value) {
+            if (value instanceof Collection<?> collection) {
+                return collection.isEmpty();
+            }
+            if (value instanceof Map<?, ?> map) {
+                return map.isEmpty();
+            }
+            if (value instanceof Object[] array) {
+                return array.length == 0;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.kitchen.recipe.config;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import com.kitchen.recipe.config.CachePolicyProperties.Policy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 캐시 정책(크기 제한, 입장 조건)을 적용하는 RedisCacheWriter 데코레이터
+ *
+ * - 직렬화 크기가 maxValueSize 를 넘으면 저장하지 않음
+ * - admitAfterMisses > 0 이면 키별 미적중 횟수(count-min sketch, 주기적으로 절반 감쇠)가
+ *   그 값을 넘은 경우에만 저장 - 한 번 조회되고 마는 키가 메모리를 차지하지 않도록
+ * - 거절 건수: recipe.cache.rejections{cache, reason=size|admission}
+ * - 동기 저장(put/putIfAbsent)의 거절 여부는 같은 스레드의 PolicyRedisCache 가 consumeRejected 로 확인 (거절된 값은 태그 기록 안 함)
+ */
+public class PolicyRedisCacheWriter implements RedisCacheWriter {
+
+    private final RedisCacheWriter delegate;
+    private final CachePolicyProperties properties;
+    private final MeterRegistry registry;
+    private final Map<String, MissSketch> sketches;
+    private final Map<String, Policy> policies = new ConcurrentHashMap<>();
+
+    // 이 스레드의 마지막 동기 저장이 정책으로 거절됐는지
+    private static final ThreadLocal<Boolean> REJECTED = new ThreadLocal<>();
+
+    public PolicyRedisCacheWriter(RedisCacheWriter delegate, CachePolicyProperties properties, MeterRegistry registry) {
+        this(delegate, properties, registry, new ConcurrentHashMap<>());
+    }
+
+    private PolicyRedisCacheWriter(RedisCacheWriter delegate, CachePolicyProperties properties,
+                                   MeterRegistry registry, Map<String, MissSketch> sketches) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.registry = registry;
+        this.sketches = sketches;
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        return recordMiss(name, key, delegate.get(name, key));
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key, Duration ttl) {
+        return recordMiss(name, key, delegate.get(name, key, ttl));
+    }
+
+    @Override
+    public boolean supportsAsyncRetrieve() {
+        return delegate.supportsAsyncRetrieve();
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key, Duration ttl) {
+        return delegate.retrieve(name, key, ttl).thenApply(value -> recordMiss(name, key, value));
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        boolean admitted = admit(name, key, value);
+        REJECTED.set(!admitted);
+        if (admitted) {
+            delegate.put(name, key, value, ttl);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> store(String name, byte[] key, byte[] value, Duration ttl) {
+        if (!admit(name, key, value)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return delegate.store(name, key, value, ttl);
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        boolean admitted = admit(name, key, value);
+        REJECTED.set(!admitted);
+        if (!admitted) {
+            return null;
+        }
+        return delegate.putIfAbsent(name, key, value, ttl);
+    }
+
+    /** 이 스레드의 마지막 put/putIfAbsent 가 크기/입장 조건으로 거절됐으면 true, 항상 비움 */
+    static boolean consumeRejected() {
+        boolean rejected = Boolean.TRUE.equals(REJECTED.get());
+        REJECTED.remove();
+        return rejected;
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        delegate.remove(name, key);
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        delegate.clean(name, pattern);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new PolicyRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector),
+                properties, registry, sketches);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return delegate.getCacheStatistics(cacheName);
+    }
+
+    private byte[] recordMiss(String name, byte[] key, byte[] value) {
+        if (value == null && policy(name).getAdmitAfterMisses() > 0) {
+            sketch(name).increment(key);
+        }
+        return value;
+    }
+
+    private boolean admit(String name, byte[] key, byte[] value) {
+        Policy policy = policy(name);
+        if (value != null && policy.getMaxValueSize() != null
+                && value.length > policy.getMaxValueSize().toBytes()) {
+            reject(name, "size");
+            return false;
+        }
+        int admitAfter = policy.getAdmitAfterMisses();
+        if (admitAfter > 0 && sketch(name).estimate(key) <= admitAfter) {
+            reject(name, "admission");
+            return false;
+        }
+        return true;
+    }
+
+    private void reject(String name, String reason) {
+        Counter.builder("recipe.cache.rejections")
+                .tag("cache", name).tag("reason", reason)
+                .description("정책에 따라 저장하지 않은 캐시 값")
+                .register(registry)
+                .increment();
+    }
+
+    private Policy policy(String name) {
+        return policies.computeIfAbsent(name, properties::resolve);
+    }
+
+    private MissSketch sketch(String name) {
+        return sketches.computeIfAbsent(name, n -> new MissSketch());
+    }
+
+    /**
+     * 키별 미적중 횟수 근사치 (count-min sketch, 4 행)
+     * - 증가 횟수가 표본 크기에 도달하면 모든 카운터를 절반으로 (오래된 빈도 감쇠)
+     */
+    static final class MissSketch {
+
+        private static final int DEPTH = 4;
+        private static final int WIDTH = 1 << 14;
+        private static final int SAMPLE_SIZE = WIDTH * 10;
+        private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+        private final AtomicIntegerArray counters = new AtomicIntegerArray(DEPTH * WIDTH);
+        private final AtomicLong additions = new AtomicLong();
+
+        void increment(byte[] key) {
+            int hash = Arrays.hashCode(key);
+            for (int row = 0; row < DEPTH; row++) {
+                counters.incrementAndGet(index(row, hash));
+            }
+            if (additions.incrementAndGet() % SAMPLE_SIZE == 0) {
+                halve();
+            }
+        }
+
+        int estimate(byte[] key) {
+            int hash = Arrays.hashCode(key);
+            int min = Integer.MAX_VALUE;
+            for (int row = 0; row < DEPTH; row++) {
+                min = Math.min(min, counters.get(index(row, hash)));
+            }
+            return min;
+        }
+
+        private void halve() {
+            for (int i = 0; i < counters.length(); i++) {
+                counters.updateAndGet(i, v -> v >>> 1);
+            }
+        }
+
+        private static int index(int row, int hash) {
+            int h = (hash ^ SEEDS[row]) * 0x45D9F3B;
+            h ^= h >>> 16;
+            return row * WIDTH + (h & (WIDTH - 1));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.kitchen.recipe.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 경로별 요청 제한(rate limit) 설정 - application.yml 의 rate-limit.*
+ */
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 로컬 버킷 → Redis 전역 버킷 동기화 주기
+    private long syncIntervalMs = 1000;
+
+    // 이 시간 동안 사용되지 않은 버킷은 메모리에서 제거
+    private long idleEvictMs = 600000;
+
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String name;
+        private List<String> patterns = new ArrayList<>();   // Ant 패턴 목록 - 같은 버킷을 공유 (/api/recipes/search)
+        private String method;            // null 이면 모든 메서드
+        private long capacity;            // 사용자별 버킷 크기 (순간 허용량)
+        private long refillPerMinute;     // 사용자별 분당 충전량
+        private long ipCapacity;          // IP별 버킷 크기 (0 이면 IP 제한 없음)
+        private long ipRefillPerMinute;   // IP별 분당 충전량
+    }
+}
@@ -1,41 +1,79 @@
 package com.kitchen.recipe.config;
 
-import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import com.kitchen.recipe.cache.CacheTagIndex;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
-@EnableCaching
+// 캐시 인터셉터가 CacheTagAspect(LOWEST_PRECEDENCE)보다 바깥에서 실행되도록
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
 public class RedisCacheConfig {
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory, MeterRegistry meterRegistry,
+                                          CachePolicyProperties cachePolicies,
+                                          ThreadPoolTaskExecutor cacheRefreshExecutor,
+                                          StringRedisTemplate stringRedisTemplate,
+                                          CacheTagIndex cacheTagIndex,
+                                          @Value("${cache.codec.type:smile}") String codec,
+                                          @Value("${cache.codec.compress-threshold-bytes:1024}") int compressThreshold) {
 
-        // Value Serializer
-        GenericJackson2JsonRedisSerializer serializer =
+        // Value Serializer - smile: 바이너리 + LZ4 (이전 JSON 값도 읽음), json: 기존 형식
+        GenericJackson2JsonRedisSerializer jsonSerializer =
                 new GenericJackson2JsonRedisSerializer(createObjectMapper());
+        RedisSerializer<Object> serializer = "json".equalsIgnoreCase(codec)
+                ? jsonSerializer
+                : new CompactCacheSerializer(createSmileMapper(), jsonSerializer, compressThreshold);
 
+        // TTL 은 캐시 이름별 정책으로 덮어씀 (cache.defaults / cache.caches)
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofHours(1))
+                .entryTtl(cachePolicies.getDefaults().getTtl())
                 .disableCachingNullValues()
                 .serializeValuesWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(serializer)
                 );
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
-                .build();
+        // 정책(크기 제한/입장 조건) → 지표(적중/지연/크기) → Redis
+        RedisCacheWriter cacheWriter = new PolicyRedisCacheWriter(
+                new InstrumentedRedisCacheWriter(
+                        RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory), meterRegistry),
+                cachePolicies, meterRegistry);
+
+        // 정책이 설정된 캐시는 기동 시 생성 (나머지는 처음 사용할 때 defaults 로 생성)
+        Map<String, RedisCacheConfiguration> initialCaches = new LinkedHashMap<>();
+        cachePolicies.getCaches().keySet().forEach(name -> initialCaches.put(name, config));
+
+        // 미리 갱신 + 인스턴스 간 재계산 lease
+        CacheLeases leases = new CacheLeases(stringRedisTemplate, meterRegistry);
+        CacheRefresher refresher = new CacheRefresher(connectionFactory, cacheRefreshExecutor, meterRegistry, leases);
+
+        return new PolicyRedisCacheManager(cacheWriter, config, initialCaches, cachePolicies, refresher, leases,
+                cacheTagIndex);
     }
 
 
@@ -55,10 +93,33 @@ public class RedisCacheConfig {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.activateDefaultTyping(
-                LaissezFaireSubTypeValidator.instance,
+                cacheTypeValidator(),
                 ObjectMapper.DefaultTyping.NON_FINAL
         );
     return objectMapper;
 }
 
+    private ObjectMapper createSmileMapper() {
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+        smileMapper.registerModule(new JavaTimeModule());
+        smileMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        smileMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        smileMapper.activateDefaultTyping(
+                cacheTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL
+        );
+        return smileMapper;
+    }
+
+    // 캐시 값에 기록된 타입명은 이 목록 안의 클래스만 허용 (임의 클래스 역직렬화 방지)
+    private PolymorphicTypeValidator cacheTypeValidator() {
+        return BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("com.kitchen.recipe.dto.")
+                .allowIfSubType("java.util.")
+                .allowIfSubType("java.time.")
+                .allowIfSubType("java.lang.")
+                .allowIfSubTypeIsArray()
+                .build();
+    }
+
 }
@@ -0,0 +1,26 @@
+package com.kitchen.recipe.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.kitchen.recipe.service.TokenRevocationService;
+
+@Configuration
+public class RedisConfig {
+
+    // Redis pub/sub 구독 컨테이너 (노드 간 이벤트 전파)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TokenRevocationService tokenRevocationService) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tokenRevocationService,
+                new ChannelTopic(TokenRevocationService.REVOKED_CHANNEL));
+        return container;
+    }
+}
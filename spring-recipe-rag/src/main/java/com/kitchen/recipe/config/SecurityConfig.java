@@ -23,8 +23,12 @@ import com.kitchen.recipe.security.CustomAccessDeniedHandler;
 import com.kitchen.recipe.security.JwtAuthEntryPoint;
 import com.kitchen.recipe.security.JwtAuthenticationFilter;
 import com.kitchen.recipe.security.JwtTokenProvider;
+import com.kitchen.recipe.security.RateLimitFilter;
 import com.kitchen.recipe.service.CustomUserDetailsService;
+import com.kitchen.recipe.service.RateLimiterService;
+import com.kitchen.recipe.service.TokenRevocationService;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -37,6 +41,9 @@ public class SecurityConfig {
     private final CustomUserDetailsService userDetailsService;
     private final JwtAuthEntryPoint jwtAuthEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
+    private final TokenRevocationService tokenRevocationService;
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimiterService rateLimiterService;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -52,7 +59,7 @@ public class SecurityConfig {
    
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService);
+        return new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, tokenRevocationService);
     }
 
     @Bean
@@ -63,7 +70,12 @@ public class SecurityConfig {
             .exceptionHandling(ex -> ex.authenticationEntryPoint(jwtAuthEntryPoint).accessDeniedHandler(customAccessDeniedHandler)) //403 refresh 처리
             .authorizeHttpRequests(authz -> authz
                 .requestMatchers(HttpMethod.OPTIONS,"/**").permitAll()
+                // SSE 등 비동기 응답의 재디스패치 - 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                // 운영 지표 - 헬스체크만 공개
+                .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/health/**").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .requestMatchers("/api/auth/login").permitAll()
                 .requestMatchers("/api/auth/refresh").permitAll()
                 // .requestMatchers("/api/auth/me").permitAll()      // ctrl+f5 로그인 풀림 찾다가 수정함.
@@ -72,7 +84,9 @@ public class SecurityConfig {
                 // .requestMatchers(HttpMethod.GET, "/api/recipes/**").permitAll()
                 .anyRequest().authenticated()
             )
-            .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
+            // 빈으로 등록하지 않음 - 서블릿 필터로 중복 등록되면 인증 전에 실행됨
+            .addFilterAfter(new RateLimitFilter(rateLimitProperties, rateLimiterService), JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -120,12 +120,13 @@ SameSite=None; Secure → 모든 요청(크로스 사이트 포함)에서 전송
     @PostMapping("/logout")
     public ResponseEntity<?> logout(
             @CookieValue(value = "refreshToken", required = false) String refreshTokenCookieValue,
+            @CookieValue(value = "accessToken", required = false) String accessTokenCookieValue,
             @AuthenticationPrincipal User userDetails
         //     Authentication authentication
     ) {
-        // 1) DB에서 Refresh Token 삭제
+        // 1) DB에서 Refresh Token 삭제 + Access Token 폐기
         log.info("로그아웃 요청: {}-{}", userDetails.getName(), refreshTokenCookieValue);
-        authService.logout(userDetails.getUsername());
+        authService.logout(userDetails.getUsername(), accessTokenCookieValue);
 
         // 2) 쿠키 삭제 (Access Token, Refresh Token)
         ResponseCookie clearAccessToken = ResponseCookie.from("accessToken", "")
@@ -0,0 +1,44 @@
+package com.kitchen.recipe.controller;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.kitchen.recipe.service.BulkImportService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/import")
+@RequiredArgsConstructor
+public class BulkImportController {
+
+    private final BulkImportService bulkImportService;
+
+    // ZIP 일괄 가져오기 - multipart 가 아닌 요청 본문(application/zip)을 그대로 스트리밍
+    @PostMapping(consumes = {"application/zip", "application/octet-stream"})
+    public ResponseEntity<?> importZip(HttpServletRequest request) throws IOException {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(bulkImportService.importZip(request.getInputStream()));
+    }
+
+    // 서버 디렉터리 가져오기 (storage.import.root 기준 상대 경로)
+    @PostMapping("/directory")
+    public ResponseEntity<?> importDirectory(@RequestParam String path) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(bulkImportService.importDirectory(path));
+    }
+
+    // 파일별 결과
+    @GetMapping("/{batchId}")
+    public ResponseEntity<?> getBatch(@PathVariable String batchId) {
+        return ResponseEntity.ok(bulkImportService.getBatch(batchId));
+    }
+}
@@ -0,0 +1,74 @@
+package com.kitchen.recipe.controller;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.kitchen.recipe.dto.ChunkedUploadRequest;
+import com.kitchen.recipe.entity.IngestJob;
+import com.kitchen.recipe.service.ChunkedUploadService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대용량 매뉴얼용 재개 가능한 청크 업로드 API
+ */
+@RestController
+@RequestMapping("/api/admin/uploads")
+@RequiredArgsConstructor
+public class ChunkedUploadController {
+
+    private final ChunkedUploadService chunkedUploadService;
+
+    @PostMapping
+    public ResponseEntity<?> initiate(@Valid @RequestBody ChunkedUploadRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(chunkedUploadService.initiate(request));
+    }
+
+    // 본문 = 청크 원본 바이트 (Content-Type: application/octet-stream)
+    @PutMapping(value = "/{uploadId}/chunks/{index}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<?> putChunk(
+            @PathVariable String uploadId,
+            @PathVariable int index,
+            HttpServletRequest request) throws IOException {
+
+        return ResponseEntity.ok(chunkedUploadService.putChunk(
+                uploadId, index, request.getContentLengthLong(), request.getInputStream()));
+    }
+
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<?> getStatus(@PathVariable String uploadId) {
+        return ResponseEntity.ok(chunkedUploadService.getStatus(uploadId));
+    }
+
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<?> complete(@PathVariable String uploadId) {
+        IngestJob job = chunkedUploadService.complete(uploadId);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                "status", job.getStatus(),
+                "jobId", job.getId(),
+                "id", job.getApplianceRecipeId(),
+                "message", "등록 완료, RAG 인덱싱 대기 중"
+        ));
+    }
+
+    @DeleteMapping("/{uploadId}")
+    public ResponseEntity<?> abort(@PathVariable String uploadId) {
+        chunkedUploadService.abort(uploadId);
+        return ResponseEntity.ok(Map.of("message", "업로드가 취소되었습니다."));
+    }
+}
@@ -1,8 +1,11 @@
 package com.kitchen.recipe.controller;
 
+import com.kitchen.recipe.dto.FavoriteCheckRequest;
+import com.kitchen.recipe.dto.FavoritePageDto;
 import com.kitchen.recipe.dto.RecipeDto;
 import com.kitchen.recipe.entity.User;
 import com.kitchen.recipe.service.FavoriteService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -28,15 +31,15 @@ public class FavoriteController {
         Authentication authentication) {
         
         User currentUser = (User) authentication.getPrincipal();
-        favoriteService.addFavorite(recipeId, currentUser);
-        
-        log.info("즐겨찾기 추가: userId={}, recipeId={}", currentUser.getId(), recipeId);
+        boolean changed = favoriteService.addFavorite(recipeId, currentUser);
         
         Map<String, Object> response = new HashMap<>();
-        response.put("message", "즐겨찾기에 추가되었습니다.");
+        response.put("message", changed ? "즐겨찾기에 추가되었습니다." : "이미 즐겨찾기에 추가된 레시피입니다.");
         response.put("recipeId", recipeId);
+        response.put("changed", changed);
         
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        // 중복 요청(더블 클릭 등)은 오류 없이 200
+        return ResponseEntity.status(changed ? HttpStatus.CREATED : HttpStatus.OK).body(response);
     }
 
     @DeleteMapping("/{recipeId}")
@@ -45,13 +48,12 @@ public class FavoriteController {
         Authentication authentication) {
         
         User currentUser = (User) authentication.getPrincipal();
-        favoriteService.removeFavorite(recipeId, currentUser);
-        
-        log.info("즐겨찾기 삭제: userId={}, recipeId={}", currentUser.getId(), recipeId);
+        boolean changed = favoriteService.removeFavorite(recipeId, currentUser);
         
         Map<String, Object> response = new HashMap<>();
         response.put("message", "즐겨찾기에서 삭제되었습니다.");
         response.put("recipeId", recipeId);
+        response.put("changed", changed);
         
         return ResponseEntity.ok(response);
     }
@@ -69,6 +71,19 @@ public class FavoriteController {
         return ResponseEntity.ok(response);
     }
 
+    // 키셋 페이지 - 다음 페이지는 응답의 nextCursor 를 cursor 로 전달
+    @GetMapping("/page")
+    public ResponseEntity<?> getFavoritesPage(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false, defaultValue = "20") Integer size,
+        Authentication authentication) {
+
+        User currentUser = (User) authentication.getPrincipal();
+        FavoritePageDto page = favoriteService.getUserFavoritesPage(currentUser, cursor, size);
+
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/check/{recipeId}")
     public ResponseEntity<?> checkFavorite(
         @PathVariable Long recipeId,
@@ -84,6 +99,22 @@ public class FavoriteController {
         return ResponseEntity.ok(response);
     }
 
+    // 목록 화면용 일괄 확인 - 즐겨찾기된 ID 만 응답
+    @PostMapping("/check")
+    public ResponseEntity<?> checkFavorites(
+        @Valid @RequestBody FavoriteCheckRequest request,
+        Authentication authentication) {
+
+        User currentUser = (User) authentication.getPrincipal();
+        List<Long> favoritedIds = favoriteService.getFavoritedIds(request.getRecipeIds(), currentUser);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("checkedCount", request.getRecipeIds().size());
+        response.put("favoritedIds", favoritedIds);
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/count")
     public ResponseEntity<?> getFavoriteCount(Authentication authentication) {
         User currentUser = (User) authentication.getPrincipal();
@@ -94,4 +125,13 @@ public class FavoriteController {
         
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/recipes/{recipeId}/count")
+    public ResponseEntity<?> getRecipeFavoriteCount(@PathVariable Long recipeId) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("recipeId", recipeId);
+        response.put("count", favoriteService.getRecipeFavoriteCount(recipeId));
+
+        return ResponseEntity.ok(response);
+    }
 }
@@ -2,6 +2,7 @@ package com.kitchen.recipe.controller;
 
 import com.kitchen.recipe.dto.RecipeDto;
 import com.kitchen.recipe.entity.User;
+import com.kitchen.recipe.service.PopularityService;
 import com.kitchen.recipe.service.RecipeSearchService;
 import com.kitchen.recipe.service.RecipeService;
 
@@ -23,6 +24,7 @@ public class RecipeController {
 
     private final RecipeSearchService recipeSearchService;
     private final RecipeService recipeService;
+    private final PopularityService popularityService;
 
     @GetMapping("/count")
     public ResponseEntity<?> getCount(){
@@ -49,6 +51,21 @@ public class RecipeController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/popular")
+    public ResponseEntity<?> getPopularRecipes(
+        @RequestParam(required = false) String appliance,
+        @RequestParam(required = false, defaultValue = "10") Integer limit) {
+
+        List<Map<String, Object>> ranking = popularityService.getTop(appliance, Math.max(1, Math.min(limit, 100)));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("totalCount", ranking.size());
+        response.put("appliance", appliance);
+        response.put("ranking", ranking);
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getRecipeDetail(
         @PathVariable Long id,
@@ -56,6 +73,8 @@ public class RecipeController {
         
         User currentUser = (User) authentication.getPrincipal();
         RecipeDto recipe = recipeSearchService.getRecipeDetail(id, currentUser);
+        // 상세 조회는 캐시될 수 있으므로 조회수는 컨트롤러에서 집계
+        popularityService.recordView(id);
         
         return ResponseEntity.ok(recipe);
     }
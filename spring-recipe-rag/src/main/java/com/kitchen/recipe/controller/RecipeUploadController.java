@@ -1,19 +1,31 @@
 package com.kitchen.recipe.controller;
 
-import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import com.kitchen.recipe.entity.ApplianceRecipe;
-import com.kitchen.recipe.service.RecipeService;
+import com.kitchen.recipe.dto.IngestProgressEvent;
+import com.kitchen.recipe.dto.IngestProgressEvent.Phase;
+import com.kitchen.recipe.dto.ProductCatalogDto;
+import com.kitchen.recipe.entity.IngestJob;
+import com.kitchen.recipe.entity.IngestJobStatus;
+import com.kitchen.recipe.service.IngestJobService;
+import com.kitchen.recipe.service.IngestProgressBroadcaster;
+import com.kitchen.recipe.service.ProductCatalogService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -21,7 +33,9 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class RecipeUploadController {
 
-    private final RecipeService recipeService;
+    private final ProductCatalogService productCatalogService;
+    private final IngestJobService ingestJobService;
+    private final IngestProgressBroadcaster ingestProgressBroadcaster;
 
     @PostMapping("/upload")
     public ResponseEntity<?> uploadRecipe(
@@ -31,25 +45,52 @@ public class RecipeUploadController {
             @RequestParam int totalPages,
             @RequestParam MultipartFile file) {
 
-       try { 
-        ApplianceRecipe prep = recipeService.prepSave(applianceType, manufacturer, productName, totalPages);
-        ApplianceRecipe result = recipeService.processUpload(prep, file);
-        
-        
-        return ResponseEntity.ok(Map.of(
-                "status", "COMPLETED",
-                "id", result.getId(),
-                "message", "등록 및 RAG 인덱싱 완료"
+        // PDF 저장 후 인덱싱은 워커에서 처리 - 진행 상태는 /upload/jobs/{jobId} 로 조회
+        IngestJob job = ingestJobService.submit(applianceType, manufacturer, productName, totalPages, file);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                "status", job.getStatus(),
+                "jobId", job.getId(),
+                "id", job.getApplianceRecipeId(),
+                "message", "등록 완료, RAG 인덱싱 대기 중"
         ));
-        }catch(Exception e){
-            return ResponseEntity.badRequest().body(Map.of("message",e.getMessage()));
+    }
+
+    @GetMapping("/upload/jobs/{jobId}")
+    public ResponseEntity<?> getUploadJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(ingestJobService.getJobStatus(jobId));
+    }
+
+    // 인덱싱 진행 이벤트 (SSE) - 완료/실패 시 스트림 종료
+    @GetMapping(value = "/upload/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamUploadJob(@PathVariable Long jobId, HttpServletResponse response) {
+        Map<String, Object> job = ingestJobService.getJobStatus(jobId);   // 없는 작업이면 404
+        response.setHeader("X-Accel-Buffering", "no");   // nginx 응답 버퍼링 끄기
+        return ingestProgressBroadcaster.subscribe(jobId, terminalEvent(jobId, job));
+    }
+
+    // 이미 끝난 작업이면 DB 상태로 종료 이벤트 생성 (진행 이벤트가 남아 있지 않은 경우 대비)
+    private IngestProgressEvent terminalEvent(Long jobId, Map<String, Object> job) {
+        if (!(job.get("status") instanceof IngestJobStatus status) || !status.isTerminal()) {
+            return null;
         }
+        Long count = job.get("recipeCount") instanceof Number n ? n.longValue() : null;
+        return IngestProgressEvent.of(jobId,
+                status == IngestJobStatus.COMPLETED ? Phase.COMPLETED : Phase.FAILED,
+                count, null, (String) job.get("message"));
     }
 
+    // 카테고리별 제품 목록 - If-None-Match 가 같으면 304
     @GetMapping("/products")
-    public ResponseEntity<?> getProducts(@RequestParam String category) {
+    public ResponseEntity<?> getProducts(@RequestParam String category, WebRequest request) {
 
-        List<ApplianceRecipe> list = recipeService.getProductsByCategory(category);
-        return ResponseEntity.ok(list);
+        ProductCatalogDto catalog = productCatalogService.getCatalog(category);
+        if (request.checkNotModified(catalog.getEtag())) {
+            return null;   // 304 Not Modified (응답 본문 없음)
+        }
+        return ResponseEntity.ok()
+                .eTag(catalog.getEtag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(catalog.getProducts());
     }
 }
@@ -0,0 +1,40 @@
+package com.kitchen.recipe.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.kitchen.recipe.service.ReindexService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/reindex")
+@RequiredArgsConstructor
+public class ReindexController {
+
+    private final ReindexService reindexService;
+
+    // 저장된 전체 PDF 재인덱싱 (이전 인덱스 버전인 책만, force=true 면 전체 책)
+    @PostMapping
+    public ResponseEntity<?> reindexAll(@RequestParam(defaultValue = "false") boolean force) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(reindexService.startAll(force));
+    }
+
+    @PostMapping("/{applianceRecipeId}")
+    public ResponseEntity<?> reindexOne(@PathVariable Long applianceRecipeId,
+                                        @RequestParam(defaultValue = "false") boolean force) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(reindexService.startOne(applianceRecipeId, force));
+    }
+
+    // 진행 상황
+    @GetMapping
+    public ResponseEntity<?> getStatus() {
+        return ResponseEntity.ok(reindexService.getStatus());
+    }
+}
@@ -0,0 +1,23 @@
+package com.kitchen.recipe.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChunkedUploadRequest {
+    @NotBlank
+    private String applianceType;
+    @NotBlank
+    private String manufacturer;
+    @NotBlank
+    private String productName;
+    private int totalPages;
+    @Positive
+    private long totalSize;      // 전체 파일 크기 (bytes)
+    private Integer chunkSize;   // 생략 시 서버 기본값
+}
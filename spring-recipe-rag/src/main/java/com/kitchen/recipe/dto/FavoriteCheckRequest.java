@@ -0,0 +1,16 @@
+package com.kitchen.recipe.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FavoriteCheckRequest {
+    @NotEmpty
+    private List<Long> recipeIds;   // 최대 favorite.check.max-batch-size 개
+}
@@ -0,0 +1,17 @@
+package com.kitchen.recipe.dto;
+
+import java.util.List;
+
+import lombok.*;
+
+/**
+ * 즐겨찾기 목록 한 페이지 - nextCursor 를 다음 요청의 cursor 로 넘김 (마지막 페이지면 null)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FavoritePageDto {
+    private List<FavoriteRecipeDto> favorites;
+    private String nextCursor;
+    private boolean hasNext;
+}
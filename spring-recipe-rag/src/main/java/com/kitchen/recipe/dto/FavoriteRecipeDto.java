@@ -0,0 +1,27 @@
+package com.kitchen.recipe.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.*;
+
+/**
+ * 즐겨찾기 목록 항목 (favorites + recipes 프로젝션, TEXT 본문 컬럼 제외)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FavoriteRecipeDto {
+    private Long favoriteId;
+    private LocalDateTime favoritedAt;
+    private Long id;              // 레시피 ID
+    private String title;
+    private String description;   // bookName
+    private String appliance;
+    private String category;
+    private String cuisineType;
+    private String difficultyLevel;
+    private Integer prepTime;
+    private Integer cookTime;
+    private Integer servingSize;
+}
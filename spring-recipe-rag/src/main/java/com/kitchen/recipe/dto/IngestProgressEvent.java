@@ -0,0 +1,33 @@
+package com.kitchen.recipe.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 인덱싱 진행 이벤트 (ApplicationEventPublisher → SSE)
+ *
+ * @param count     단계별 수치 (SAVED: 바이트, TITLES_EXTRACTED: 제목 수, PERSISTED: 저장 행 수 등)
+ * @param elapsedMs 해당 단계 소요 시간 (없으면 null)
+ */
+public record IngestProgressEvent(Long jobId, Phase phase, Long count, Long elapsedMs,
+                                  String message, LocalDateTime at) {
+
+    public enum Phase {
+        SAVED,              // PDF 저장 + SHA-256 계산 완료
+        QUEUED,             // 인덱싱 작업 등록
+        SENDING,            // RAG /ingest 전송 시작
+        SENT,               // /ingest 응답 수신 (OCR, 임베딩 포함)
+        TITLES_EXTRACTED,   // 응답에서 레시피 제목 확인
+        PERSISTED,          // 레시피 제목 DB 저장
+        COMPLETED,
+        RETRY,              // 실패 - 재시도 예정
+        FAILED;
+
+        public boolean isTerminal() {
+            return this == COMPLETED || this == FAILED;
+        }
+    }
+
+    public static IngestProgressEvent of(Long jobId, Phase phase, Long count, Long elapsedMs, String message) {
+        return new IngestProgressEvent(jobId, phase, count, elapsedMs, message, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,17 @@
+package com.kitchen.recipe.dto;
+
+import java.util.List;
+
+import lombok.*;
+
+/**
+ * 카테고리별 제품 목록 캐시 값 - 목록 내용으로 계산한 ETag 포함
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductCatalogDto {
+    private String category;
+    private String etag;
+    private List<ProductSummaryDto> products;
+}
@@ -0,0 +1,20 @@
+package com.kitchen.recipe.dto;
+
+import lombok.*;
+
+/**
+ * 관리자 제품 목록 항목 (appliance_recipe 프로젝션)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductSummaryDto {
+    private Long id;
+    private String applianceType;
+    private String fileName;
+    private String manufacturer;
+    private String productName;
+    private int totalPages;
+    private String uploadStatus;
+}
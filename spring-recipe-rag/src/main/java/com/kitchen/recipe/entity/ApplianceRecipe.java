@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -16,7 +17,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "appliance_recipe")
+@Table(name = "appliance_recipe", indexes = {
+    @Index(name = "idx_appliance_recipe_file_hash", columnList = "file_hash"),
+    @Index(name = "idx_appliance_recipe_type", columnList = "appliance_type")
+})
 @Getter @Setter @Builder
 @NoArgsConstructor @AllArgsConstructor
 public class ApplianceRecipe {
@@ -25,13 +29,17 @@ public class ApplianceRecipe {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "appliance_type")
     private String applianceType;
     private String manufacturer;
     private String productName;
     private String fileName;
     private int totalPages;
     private String uploadStatus;
-    private String fileHash;
+    @Column(name = "file_hash", length = 64)
+    private String fileHash;   // PDF 내용 SHA-256 (PdfBlobStore 키)
+    @Column(name = "index_version", length = 20)
+    private String indexVersion;   // 마지막으로 인덱싱한 청킹/임베딩 설정 버전 (null 이면 미기록)
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
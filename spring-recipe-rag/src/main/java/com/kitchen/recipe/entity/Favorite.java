@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 }, indexes = {
     @Index(name = "idx_user_id", columnList = "user_id"),
     @Index(name = "idx_recipe_id", columnList = "recipe_id"),
-    @Index(name = "idx_created_at", columnList = "created_at")
+    @Index(name = "idx_created_at", columnList = "created_at"),
+    @Index(name = "idx_favorite_user_created", columnList = "user_id, created_at, id")
 })
 @Data
 @NoArgsConstructor
@@ -0,0 +1,68 @@
+package com.kitchen.recipe.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "ingest_jobs", indexes = {
+    @Index(name = "idx_ingest_job_status", columnList = "status"),
+    @Index(name = "idx_ingest_job_appliance_recipe", columnList = "appliance_recipe_id"),
+    @Index(name = "idx_ingest_job_batch", columnList = "batch_id")
+})
+@Getter @Setter @Builder
+@NoArgsConstructor @AllArgsConstructor
+public class IngestJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "appliance_recipe_id", nullable = false)
+    private Long applianceRecipeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IngestJobStatus status;
+
+    @Column(name = "batch_id", length = 36)
+    private String batchId;   // 일괄 가져오기 묶음 (단건 업로드는 null)
+
+    @Column(name = "recipe_count")
+    private Integer recipeCount;
+
+    @Column(length = 1000)
+    private String message;   // 실패 사유 등
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,17 @@
+package com.kitchen.recipe.entity;
+
+/**
+ * PDF 인덱싱 작업 상태
+ * QUEUED → EXTRACTING → INDEXING → COMPLETED / FAILED
+ */
+public enum IngestJobStatus {
+    QUEUED,       // 작업 큐 대기
+    EXTRACTING,   // RAG 서비스 /ingest 진행 중 (텍스트 추출, OCR, 임베딩)
+    INDEXING,     // 추출된 레시피 제목 DB 반영 중
+    COMPLETED,
+    FAILED;
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
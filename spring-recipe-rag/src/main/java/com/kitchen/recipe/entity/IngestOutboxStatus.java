@@ -0,0 +1,13 @@
+package com.kitchen.recipe.entity;
+
+/**
+ * 인덱싱 outbox 전달 상태
+ * PENDING → IN_FLIGHT → DONE
+ *              └→ PENDING (재시도, 지수 백오프) → ... → DEAD (최대 시도 초과)
+ */
+public enum IngestOutboxStatus {
+    PENDING,     // 전달 대기 (next_attempt_at 이후 relay 가 가져감)
+    IN_FLIGHT,   // 워커가 처리 중 (locked_at 기준 lease)
+    DONE,
+    DEAD         // 재시도 한도 초과 - 관리자 확인 필요
+}
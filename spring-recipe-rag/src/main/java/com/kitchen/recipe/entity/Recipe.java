@@ -9,6 +9,7 @@ import java.time.LocalDateTime;
 @Table(name = "recipes", indexes = {
     @Index(name = "idx_appliance", columnList = "appliance"),
     @Index(name = "idx_title", columnList = "title"),
+    @Index(name = "idx_appliance_title", columnList = "appliance, title"),   // 제목 중복 확인 (book_name 은 TEXT 라 색인 불가)
     @Index(name = "idx_created_at", columnList = "created_at")
 })
 @Data
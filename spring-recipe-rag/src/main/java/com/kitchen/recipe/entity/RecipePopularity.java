@@ -0,0 +1,43 @@
+package com.kitchen.recipe.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 레시피 인기도 집계 (PopularityService 가 주기적으로 누적 반영)
+ * score = view_count + favorite_count * favorite-weight
+ */
+@Entity
+@Table(name = "recipe_popularity", indexes = {
+    @Index(name = "idx_recipe_popularity_score", columnList = "score")
+})
+@Getter @Setter @Builder
+@NoArgsConstructor @AllArgsConstructor
+public class RecipePopularity {
+
+    @Id
+    @Column(name = "recipe_id")
+    private Long recipeId;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(name = "favorite_count", nullable = false)
+    private long favoriteCount;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -4,13 +4,37 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.kitchen.recipe.dto.ProductSummaryDto;
 import com.kitchen.recipe.entity.ApplianceRecipe;
 
 @Repository
 public interface ApplianceRepository extends JpaRepository<ApplianceRecipe, Long> {
-    Optional<ApplianceRecipe> findByFileHash(String fileHash);
+    // 같은 PDF 를 여러 제품이 공유할 수 있음 (content-addressed 저장)
+    Optional<ApplianceRecipe> findFirstByFileHashAndUploadStatus(String fileHash, String uploadStatus);
+
+    boolean existsByFileHashAndManufacturerAndProductName(String fileHash, String manufacturer, String productName);
+
+    long countByFileHash(String fileHash);
+
+    List<ApplianceRecipe> findByFileHash(String fileHash);
 
     List<ApplianceRecipe> findByApplianceType(String category);
+
+    // 관리자 제품 목록 - 필요한 컬럼만 조회
+    @Query("SELECT new com.kitchen.recipe.dto.ProductSummaryDto(a.id, a.applianceType, a.fileName, " +
+           "a.manufacturer, a.productName, a.totalPages, a.uploadStatus) " +
+           "FROM ApplianceRecipe a WHERE a.applianceType = :category ORDER BY a.id")
+    List<ProductSummaryDto> findSummariesByApplianceType(@Param("category") String category);
+
+    List<ApplianceRecipe> findByUploadStatus(String uploadStatus);
+
+    // 같은 PDF 를 쓰는 제품은 벡터를 공유하므로 인덱스 버전도 함께 기록
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ApplianceRecipe a SET a.indexVersion = :indexVersion WHERE a.fileHash = :fileHash")
+    int markIndexed(@Param("fileHash") String fileHash, @Param("indexVersion") String indexVersion);
 }
@@ -1,17 +1,66 @@
 package com.kitchen.recipe.repository;
 
+import com.kitchen.recipe.dto.FavoriteRecipeDto;
 import com.kitchen.recipe.entity.Favorite;
 import com.kitchen.recipe.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     List<Favorite> findByUser(User user);
+
+    @Query("SELECT f FROM Favorite f JOIN FETCH f.recipe WHERE f.user = :user ORDER BY f.createdAt DESC")
+    List<Favorite> findByUserWithRecipe(@Param("user") User user);
     Optional<Favorite> findByUserIdAndRecipeId(Long userId, Long recipeId);
     boolean existsByUserIdAndRecipeId(Long userId, Long recipeId);
-    void deleteByUserIdAndRecipeId(Long userId, Long recipeId);
+    long deleteByUserIdAndRecipeId(Long userId, Long recipeId);
+
+    // 단일 문장 추가 - 이미 있거나 레시피가 없으면(FK) 0 행
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO favorites (user_id, recipe_id, created_at) " +
+                   "VALUES (:userId, :recipeId, :createdAt)", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("recipeId") Long recipeId,
+                     @Param("createdAt") LocalDateTime createdAt);
+
+    // 단일 문장 삭제 - 엔티티를 읽지 않음
+    @Modifying
+    @Query(value = "DELETE FROM favorites WHERE user_id = :userId AND recipe_id = :recipeId", nativeQuery = true)
+    int deleteDirect(@Param("userId") Long userId, @Param("recipeId") Long recipeId);
+    long countByUserId(Long userId);
+    long countByRecipeId(Long recipeId);
+
+    @Query("SELECT f.recipe.id FROM Favorite f WHERE f.user.id = :userId")
+    List<Long> findRecipeIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT f.recipe.id FROM Favorite f WHERE f.user.id = :userId AND f.recipe.id IN :recipeIds")
+    List<Long> findRecipeIdsByUserIdAndRecipeIdIn(@Param("userId") Long userId,
+                                                  @Param("recipeIds") Collection<Long> recipeIds);
+
+    // 키셋 페이지 (최신순) - 첫 페이지
+    @Query("SELECT new com.kitchen.recipe.dto.FavoriteRecipeDto(f.id, f.createdAt, r.id, r.title, r.bookName, " +
+           "r.appliance, r.category, r.cuisineType, r.difficultyLevel, r.prepTime, r.cookTime, r.servingSize) " +
+           "FROM Favorite f JOIN f.recipe r WHERE f.user.id = :userId " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FavoriteRecipeDto> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 키셋 페이지 (최신순) - (createdAt, id) 커서 이후
+    @Query("SELECT new com.kitchen.recipe.dto.FavoriteRecipeDto(f.id, f.createdAt, r.id, r.title, r.bookName, " +
+           "r.appliance, r.category, r.cuisineType, r.difficultyLevel, r.prepTime, r.cookTime, r.servingSize) " +
+           "FROM Favorite f JOIN f.recipe r WHERE f.user.id = :userId " +
+           "AND (f.createdAt < :cursorAt OR (f.createdAt = :cursorAt AND f.id < :cursorId)) " +
+           "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FavoriteRecipeDto> findPageByUserIdAfter(@Param("userId") Long userId,
+                                                  @Param("cursorAt") LocalDateTime cursorAt,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Pageable pageable);
 }
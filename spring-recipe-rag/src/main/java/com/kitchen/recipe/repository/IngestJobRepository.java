@@ -0,0 +1,20 @@
+package com.kitchen.recipe.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.kitchen.recipe.entity.IngestJob;
+import com.kitchen.recipe.entity.IngestJobStatus;
+
+@Repository
+public interface IngestJobRepository extends JpaRepository<IngestJob, Long> {
+
+    List<IngestJob> findByStatusIn(Collection<IngestJobStatus> statuses);
+
+    boolean existsByApplianceRecipeId(Long applianceRecipeId);
+
+    List<IngestJob> findByBatchIdOrderById(String batchId);
+}
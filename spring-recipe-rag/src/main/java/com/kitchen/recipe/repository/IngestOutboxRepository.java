@@ -0,0 +1,87 @@
+package com.kitchen.recipe.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kitchen.recipe.entity.IngestOutbox;
+import com.kitchen.recipe.entity.IngestOutboxStatus;
+
+@Repository
+public interface IngestOutboxRepository extends JpaRepository<IngestOutbox, Long> {
+
+    // 전달 시각이 된 단건 업로드 대기 건 (오래된 순)
+    @Query("SELECT o.id FROM IngestOutbox o, IngestJob j WHERE j.id = o.ingestJobId AND j.batchId IS NULL " +
+           "AND o.status = :status AND o.nextAttemptAt <= :now ORDER BY o.nextAttemptAt")
+    List<Long> findDueIds(@Param("status") IngestOutboxStatus status,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    // 전달 시각이 된 일괄 가져오기 대기 건 (오래된 순)
+    @Query("SELECT o.id FROM IngestOutbox o, IngestJob j WHERE j.id = o.ingestJobId AND j.batchId IS NOT NULL " +
+           "AND o.status = :status AND o.nextAttemptAt <= :now ORDER BY o.nextAttemptAt")
+    List<Long> findDueImportIds(@Param("status") IngestOutboxStatus status,
+                                @Param("now") LocalDateTime now,
+                                Pageable pageable);
+
+    // 처리 중인 일괄 가져오기 건 (모든 인스턴스)
+    @Query("SELECT COUNT(o) FROM IngestOutbox o, IngestJob j WHERE j.id = o.ingestJobId AND j.batchId IS NOT NULL " +
+           "AND o.status = com.kitchen.recipe.entity.IngestOutboxStatus.IN_FLIGHT")
+    long countInFlightImports();
+
+    // 조건부 UPDATE 로 선점 - 여러 인스턴스가 같은 행을 동시에 가져가지 않도록
+    @Modifying
+    @Transactional
+    @Query("UPDATE IngestOutbox o SET o.status = com.kitchen.recipe.entity.IngestOutboxStatus.IN_FLIGHT, " +
+           "o.lockedAt = :now, o.attempts = o.attempts + 1, o.updatedAt = :now " +
+           "WHERE o.id = :id AND o.status = com.kitchen.recipe.entity.IngestOutboxStatus.PENDING")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 워커 큐가 가득 차 실행하지 못한 건 되돌리기 (시도 횟수도 원복)
+    @Modifying
+    @Transactional
+    @Query("UPDATE IngestOutbox o SET o.status = com.kitchen.recipe.entity.IngestOutboxStatus.PENDING, " +
+           "o.lockedAt = null, o.attempts = o.attempts - 1 " +
+           "WHERE o.id = :id AND o.status = com.kitchen.recipe.entity.IngestOutboxStatus.IN_FLIGHT")
+    int unclaim(@Param("id") Long id);
+
+    // lease 가 만료된 IN_FLIGHT (프로세스 종료/크래시) → 다시 대기 상태로
+    @Modifying
+    @Transactional
+    @Query("UPDATE IngestOutbox o SET o.status = com.kitchen.recipe.entity.IngestOutboxStatus.PENDING, " +
+           "o.lockedAt = null, o.nextAttemptAt = :now " +
+           "WHERE o.status = com.kitchen.recipe.entity.IngestOutboxStatus.IN_FLIGHT AND o.lockedAt < :before")
+    int releaseExpired(@Param("before") LocalDateTime before, @Param("now") LocalDateTime now);
+
+    // 처리 중 lease 연장 - 아직 이 워커의 lease(선점 시각)일 때만
+    @Modifying
+    @Transactional
+    @Query("UPDATE IngestOutbox o SET o.lockedAt = :now " +
+           "WHERE o.id = :id AND o.status = com.kitchen.recipe.entity.IngestOutboxStatus.IN_FLIGHT " +
+           "AND o.lockedAt = :lockedAt")
+    int renewLease(@Param("id") Long id, @Param("lockedAt") LocalDateTime lockedAt, @Param("now") LocalDateTime now);
+
+    // 처리 결과 반영 - lease 를 잃었으면(만료 후 다른 워커가 다시 선점) 0 건
+    @Modifying
+    @Transactional
+    @Query("UPDATE IngestOutbox o SET o.status = :status, o.lockedAt = null, o.nextAttemptAt = :nextAttemptAt, " +
+           "o.lastError = :lastError, o.updatedAt = :now " +
+           "WHERE o.id = :id AND o.status = com.kitchen.recipe.entity.IngestOutboxStatus.IN_FLIGHT " +
+           "AND o.lockedAt = :lockedAt")
+    int finish(@Param("id") Long id, @Param("lockedAt") LocalDateTime lockedAt,
+               @Param("status") IngestOutboxStatus status, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+               @Param("lastError") String lastError, @Param("now") LocalDateTime now);
+
+    Optional<IngestOutbox> findFirstByIngestJobIdOrderByIdDesc(Long ingestJobId);
+
+    boolean existsByIngestJobIdAndStatusIn(Long ingestJobId, Collection<IngestOutboxStatus> statuses);
+}
@@ -0,0 +1,50 @@
+package com.kitchen.recipe.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 레시피 제목 일괄 저장
+ *
+ * Recipe 는 IDENTITY 키라 Hibernate 가 INSERT 를 배치로 묶지 못한다.
+ * JDBC batch + rewriteBatchedStatements=true(JDBC URL) 로 드라이버가 multi-row INSERT 로 합쳐 전송.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecipeBulkWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO recipes (title, book_name, appliance, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${recipe.bulk-insert.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 제목 목록 INSERT - 호출하는 쪽 트랜잭션에 참여
+     * @return 저장한 행 수
+     */
+    public int insertTitles(String bookName, String appliance, List<String> titles) {
+        if (titles.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, titles, batchSize, (PreparedStatement ps, String title) -> {
+            ps.setString(1, title);
+            ps.setString(2, bookName);
+            ps.setString(3, appliance);
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+        return titles.size();
+    }
+}
@@ -0,0 +1,56 @@
+package com.kitchen.recipe.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * recipe_popularity 누적 반영 / 상위 목록 조회 (JDBC)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecipePopularityWriter {
+
+    // score 는 누적하지 않고 반영된 조회수/즐겨찾기 수로 다시 계산 (favorite_count 하한 0 과 어긋나지 않도록)
+    // - ON DUPLICATE KEY UPDATE 는 왼쪽부터 적용되므로 score 식의 컬럼은 갱신된 값
+    private static final String UPSERT_SQL =
+            "INSERT INTO recipe_popularity (recipe_id, view_count, favorite_count, score, updated_at) " +
+            "VALUES (?, ?, GREATEST(0, ?), ? + GREATEST(0, ?) * ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "view_count = view_count + VALUES(view_count), " +
+            "favorite_count = GREATEST(0, favorite_count + ?), " +
+            "score = view_count + favorite_count * ?, " +
+            "updated_at = VALUES(updated_at)";
+
+    private static final String TOP_SQL =
+            "SELECT p.recipe_id, p.score, r.appliance FROM recipe_popularity p " +
+            "JOIN recipes r ON r.id = p.recipe_id ORDER BY p.score DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Delta(long recipeId, long views, long favorites, double score) {}
+
+    public record Ranked(long recipeId, double score, String appliance) {}
+
+    public void addAll(List<Delta> deltas, double favoriteWeight) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        for (Delta d : deltas) {
+            args.add(new Object[] {d.recipeId(), d.views(), d.favorites(),
+                    d.views(), d.favorites(), favoriteWeight, now,
+                    d.favorites(), favoriteWeight});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+    }
+
+    public List<Ranked> findTop(int limit) {
+        return jdbcTemplate.query(TOP_SQL,
+                (rs, i) -> new Ranked(rs.getLong(1), rs.getDouble(2), rs.getString(3)), limit);
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,5 +23,8 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long> {
     @Query("SELECT r FROM Recipe r WHERE r.category = :category")
     List<Recipe> findByCategory(@Param("category") String category);
 
-    
+    // 같은 책으로 이미 저장된 제목 (재인덱싱 시 중복 제거용) - idx_appliance_title 로 후보를 좁힌 뒤 book_name(TEXT) 비교
+    @Query("SELECT r.title FROM Recipe r WHERE r.appliance = :appliance AND r.title IN :titles AND r.bookName = :bookName")
+    List<String> findExistingTitles(@Param("appliance") String appliance, @Param("bookName") String bookName,
+                                    @Param("titles") Collection<String> titles);
 }
@@ -15,7 +15,9 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.kitchen.recipe.service.CustomUserDetailsService;
+import com.kitchen.recipe.service.TokenRevocationService;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 
@@ -32,6 +34,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -40,8 +43,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             log.info("JwtAuthenticationFilter 동작 중...");
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String email = tokenProvider.getUsernameFromToken(jwt);
+            if (StringUtils.hasText(jwt)) {
+                // 서명/만료 검증과 클레임 추출을 한 번에 (실패 시 예외 → 아래 catch)
+                Claims claims = tokenProvider.parseClaims(jwt);
+                // 로그아웃으로 폐기된 토큰 → 인증하지 않음 (JwtAuthEntryPoint 가 에러 응답)
+                if (tokenRevocationService.isRevoked(claims.getId())) {
+                    request.setAttribute("error", "TOKEN_REVOKED");
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+                String email = claims.getSubject();
                 UserDetails userDetails = userDetailsService.loadUserByUsername(email);
 
                 UsernamePasswordAuthenticationToken authentication =
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 @Slf4j
@@ -37,6 +38,7 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .signWith(secretKey)
+                .id(UUID.randomUUID().toString())   // jti - 로그아웃 시 토큰 폐기(revocation) 식별자
                 .subject(email)
                 .issuer("org.iclass")
                 .issuedAt(new Date())
@@ -75,6 +77,7 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .signWith(secretKey)
+                .id(UUID.randomUUID().toString())   // jti - 로그아웃 시 토큰 폐기(revocation) 식별자
                 .subject(email)
                 .issuer("org.iclass")
                 .issuedAt(new Date())
@@ -90,6 +93,7 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .signWith(secretKey)
+                .id(UUID.randomUUID().toString())   // jti - 로그아웃 시 토큰 폐기(revocation) 식별자
                 .subject(email)
                 .issuer("org.iclass")
                 .issuedAt(new Date())
@@ -106,6 +110,7 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .signWith(secretKey)
+                .id(UUID.randomUUID().toString())   // jti - 로그아웃 시 토큰 폐기(revocation) 식별자
                 .subject(email)
                 .issuer("org.iclass")
                 .issuedAt(new Date())
@@ -124,6 +129,15 @@ public class JwtTokenProvider {
         return claims.getSubject();   // subject = email
     }
 
+    // 서명 검증 후 클레임 반환 - 요청마다 한 번만 파싱 (subject/jti/만료 시각을 함께 사용)
+    public Claims parseClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
     // Access Token 만료시간(ms) 반환
     public long getExpirationTime() {
         return ACCESS_EXP_MS;
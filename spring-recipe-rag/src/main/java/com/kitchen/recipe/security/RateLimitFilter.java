@@ -0,0 +1,91 @@
+package com.kitchen.recipe.security;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.kitchen.recipe.config.RateLimitProperties;
+import com.kitchen.recipe.config.RateLimitProperties.Route;
+import com.kitchen.recipe.service.RateLimiterService;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+// JwtAuthenticationFilter 다음에 등록 (SecurityConfig) - 인증된 사용자 기준으로 제한하기 위함
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final RateLimiterService rateLimiterService;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Route route = properties.isEnabled() ? matchRoute(request) : null;
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = rateLimiterService.tryAcquire(route, currentUser(), clientIp(request));
+        if (retryAfterSeconds > 0) {
+            log.info("요청 제한: route={}, ip={}, retryAfter={}s", route.getName(), clientIp(request), retryAfterSeconds);
+            response.setCharacterEncoding("UTF-8");
+            response.setContentType("application/json");
+            response.setStatus(429);   // Too Many Requests
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.getWriter().write(
+                    "{\"error\": \"RATE_LIMITED\", \"retryAfter\": " + retryAfterSeconds + "}"
+            );
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Route matchRoute(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (Route route : properties.getRoutes()) {
+            if (route.getMethod() != null && !route.getMethod().equalsIgnoreCase(request.getMethod())) {
+                continue;
+            }
+            for (String pattern : route.getPatterns()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+
+    private String currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || "anonymousUser".equals(auth.getPrincipal())) {
+            return null;
+        }
+        return auth.getName();
+    }
+
+    // nginx 가 넘겨주는 X-Real-IP / X-Forwarded-For 우선
+    private String clientIp(HttpServletRequest request) {
+        String realIp = request.getHeader("X-Real-IP");
+        if (StringUtils.hasText(realIp)) {
+            return realIp.trim();
+        }
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (StringUtils.hasText(forwarded)) {
+            return forwarded.split(",")[0].trim();
+        }
+        return request.getRemoteAddr();
+    }
+}
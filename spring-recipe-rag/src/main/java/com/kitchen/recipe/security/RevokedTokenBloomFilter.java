@@ -0,0 +1,131 @@
+package com.kitchen.recipe.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 폐기된 토큰 ID(jti)를 위한 회전식(rotating) Bloom filter
+ *
+ * - mightContain() 이 false 이면 "확실히 폐기되지 않은 토큰" → Redis 조회 없이 통과
+ * - true 이면 오탐 가능성이 있으므로 Redis 에서 한 번 더 확인한다.
+ * - 삭제가 불가능한 Bloom filter 특성상 두 세대(current/previous)를 두고
+ *   rotationMs 마다 previous 를 버린다. 한 번 들어간 jti 는 최소 rotationMs 동안 유지되므로
+ *   rotationMs 를 Access Token 수명 이상으로 두면 유효한 폐기 토큰을 놓치지 않는다.
+ */
+public class RevokedTokenBloomFilter {
+
+    private final int numBits;
+    private final int numHashes;
+    private final long rotationMs;
+    private final LongSupplier clock;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+    private volatile long rotatedAt;
+
+    public RevokedTokenBloomFilter(int expectedInsertions, double falsePositiveRate, long rotationMs) {
+        this(expectedInsertions, falsePositiveRate, rotationMs, System::currentTimeMillis);
+    }
+
+    // 테스트에서 회전 시각을 제어하기 위한 시계 주입
+    RevokedTokenBloomFilter(int expectedInsertions, double falsePositiveRate, long rotationMs, LongSupplier clock) {
+        int n = Math.max(1, expectedInsertions);
+        double p = Math.min(Math.max(falsePositiveRate, 1e-9), 0.5);
+        // m = -n ln p / (ln 2)^2,  k = m/n ln 2
+        this.numBits = (int) Math.max(64, Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2))));
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / n * Math.log(2)));
+        this.rotationMs = rotationMs;
+        this.clock = clock;
+        this.current = new Generation(numBits);
+        this.previous = new Generation(numBits);
+        this.rotatedAt = clock.getAsLong();
+    }
+
+    public void put(String tokenId) {
+        rotateIfDue();
+        current.put(tokenId, numHashes);
+    }
+
+    public boolean mightContain(String tokenId) {
+        rotateIfDue();
+        return current.mightContain(tokenId, numHashes) || previous.mightContain(tokenId, numHashes);
+    }
+
+    private void rotateIfDue() {
+        if (clock.getAsLong() - rotatedAt < rotationMs) {
+            return;
+        }
+        synchronized (this) {
+            long now = clock.getAsLong();
+            if (now - rotatedAt >= rotationMs) {
+                previous = current;
+                current = new Generation(numBits);
+                rotatedAt = now;
+            }
+        }
+    }
+
+    public int getNumBits() {
+        return numBits;
+    }
+
+    public int getNumHashes() {
+        return numHashes;
+    }
+
+    private static final class Generation {
+        private final AtomicLongArray words;
+        private final int numBits;
+
+        Generation(int numBits) {
+            this.numBits = numBits;
+            this.words = new AtomicLongArray((numBits + 63) >>> 6);
+        }
+
+        void put(String key, int numHashes) {
+            long h1 = hash(key);
+            long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L);
+            for (int i = 0; i < numHashes; i++) {
+                int bit = index(h1 + i * h2);
+                long mask = 1L << bit;
+                words.accumulateAndGet(bit >>> 6, mask, (a, b) -> a | b);
+            }
+        }
+
+        boolean mightContain(String key, int numHashes) {
+            long h1 = hash(key);
+            long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L);
+            for (int i = 0; i < numHashes; i++) {
+                int bit = index(h1 + i * h2);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int index(long combined) {
+            return (int) ((combined & Long.MAX_VALUE) % numBits);
+        }
+    }
+
+    // FNV-1a 64bit + murmur3 finalizer (double hashing 용 기본 해시)
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb1a2c3fda6bbL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
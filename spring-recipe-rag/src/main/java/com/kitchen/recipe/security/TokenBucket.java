@@ -0,0 +1,98 @@
+package com.kitchen.recipe.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free 토큰 버킷 (CAS 기반)
+ *
+ * 로컬에서 소비한 토큰 수(unsynced)를 따로 모아두었다가
+ * 주기적으로 Redis 전역 버킷에 반영하고, 전역 잔량으로 로컬 잔량을 보정한다.
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final double refillPerNano;
+    private final AtomicReference<State> state;
+    private final AtomicLong unsynced = new AtomicLong();
+    private volatile long lastAccessMs = System.currentTimeMillis();
+
+    private record State(double tokens, long updatedAtNanos) {}
+
+    public TokenBucket(long capacity, long refillPerMinute) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerMinute / 60_000_000_000.0;
+        this.state = new AtomicReference<>(new State(capacity, System.nanoTime()));
+    }
+
+    /**
+     * 토큰 1개 소비 시도
+     * @return 0 이면 허용, 양수면 다음 토큰까지 기다려야 하는 시간(ns)
+     */
+    public long tryConsume() {
+        lastAccessMs = System.currentTimeMillis();
+        while (true) {
+            State current = state.get();
+            long now = System.nanoTime();
+            double tokens = refill(current, now);
+            if (tokens < 1.0) {
+                return refillPerNano > 0 ? (long) Math.ceil((1.0 - tokens) / refillPerNano) : Long.MAX_VALUE;
+            }
+            if (state.compareAndSet(current, new State(tokens - 1.0, now))) {
+                unsynced.incrementAndGet();
+                return 0;
+            }
+        }
+    }
+
+    /** 소비한 토큰 1개 반환 (함께 확인한 다른 버킷에서 거부됐을 때) */
+    public void refund() {
+        while (true) {
+            State current = state.get();
+            long now = System.nanoTime();
+            double tokens = Math.min(capacity, refill(current, now) + 1.0);
+            if (state.compareAndSet(current, new State(tokens, now))) {
+                unsynced.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /** 마지막 동기화 이후 로컬에서 소비한 토큰 수를 가져오고 0으로 초기화 */
+    public long drainUnsynced() {
+        return unsynced.getAndSet(0);
+    }
+
+    /** 되돌려 놓기 (Redis 반영 실패 시 다음 주기에 재시도) */
+    public void restoreUnsynced(long count) {
+        unsynced.addAndGet(count);
+    }
+
+    /** 전역(Redis) 잔량으로 로컬 잔량 보정 - 다른 노드의 소비분 반영 */
+    public void reconcile(double globalTokens) {
+        while (true) {
+            State current = state.get();
+            long now = System.nanoTime();
+            double tokens = Math.min(refill(current, now), Math.max(0.0, globalTokens));
+            if (state.compareAndSet(current, new State(tokens, now))) {
+                return;
+            }
+        }
+    }
+
+    private double refill(State s, long now) {
+        return Math.min(capacity, s.tokens() + (now - s.updatedAtNanos()) * refillPerNano);
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public double getRefillPerMs() {
+        return refillPerNano * 1_000_000;
+    }
+
+    public long getLastAccessMs() {
+        return lastAccessMs;
+    }
+}
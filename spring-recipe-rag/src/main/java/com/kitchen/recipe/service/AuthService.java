@@ -36,6 +36,7 @@ public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final PasswordEncoder passwordEncoder;
     private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
     public Authentication authenticate(String email, String password) {
         return authManager.authenticate(
@@ -99,11 +100,13 @@ public class AuthService {
     }
 
         // 로그아웃
-    public void logout(String email) {
+    public void logout(String email, String accessToken) {
         log.info("logout service: {}", email);
         User user = userRepository.findByEmail(email)
                 .orElseThrow();
         refreshTokenService.deleteByUser(user);
+        // 남은 수명 동안 Access Token 사용 차단
+        tokenRevocationService.revoke(accessToken);
     }
 
     public Map<String, Object> refreshAccessToken(String refreshToken) {
@@ -0,0 +1,393 @@
+package com.kitchen.recipe.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.kitchen.recipe.entity.IngestJob;
+import com.kitchen.recipe.exception.AppException;
+import com.kitchen.recipe.repository.IngestJobRepository;
+import com.kitchen.recipe.storage.PdfBlobStore;
+import com.kitchen.recipe.storage.PdfBlobStore.StoredBlob;
+import com.kitchen.recipe.storage.PdfPageCounter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매뉴얼 일괄 가져오기 (ZIP / 서버 디렉터리)
+ *
+ * manifest.csv : fileName,applianceType,manufacturer,productName[,totalPages] (RFC 4180, 쉼표가 든 값은 따옴표로)
+ * - ZIP 은 요청 본문을 그대로 스트리밍으로 풀면서 엔트리마다 blob 저장소에 저장 (전체를 디스크에 풀지 않음)
+ * - 한 번에 가져올 PDF 합계는 storage.import.max-total-size 로 제한
+ * - 등록된 파일은 outbox 작업으로 쌓이고, 가져오기 작업의 /ingest 동시 호출 수는 storage.import.concurrency 로 제한
+ * - 행 단위로 등록 - 한 행이 실패해도 나머지 행은 계속 처리
+ * - 결과는 batchId 로 조회 (파일별 작업 상태 / 등록 실패 사유)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkImportService {
+
+    private static final String MANIFEST = "manifest.csv";
+    private static final int MAX_BATCHES = 20;
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(CsvParser.Feature.WRAP_AS_ARRAY)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+            .build();
+
+    private final PdfBlobStore blobStore;
+    private final PdfPageCounter pageCounter;
+    private final IngestJobService ingestJobService;
+    private final IngestJobRepository ingestJobRepository;
+
+    @Value("${storage.import.root:${storage.pdf.root:/home/sohkim/rbook}/import}")
+    private String importRoot;
+
+    @Value("${storage.import.max-entries:500}")
+    private int maxEntries;
+
+    @Value("${storage.upload.max-file-size:524288000}")
+    private long maxFileSize;
+
+    @Value("${storage.import.max-total-size:10737418240}")
+    private long maxTotalSize;
+
+    // 최근 가져오기 결과 (등록 전에 실패한 항목 포함) - 재시작 후에는 작업 테이블 기준으로만 조회
+    private final Map<String, List<ImportItem>> batches = Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, List<ImportItem>> eldest) {
+                    return size() > MAX_BATCHES;
+                }
+            });
+
+    record ManifestRow(String fileName, String applianceType, String manufacturer, String productName,
+                       Integer totalPages) {}
+
+    record ImportItem(String fileName, String productName, Long jobId, String error) {}
+
+    /**
+     * ZIP 스트림 가져오기
+     */
+    public Map<String, Object> importZip(InputStream body) {
+        String batchId = UUID.randomUUID().toString();
+        Map<String, StoredBlob> blobs = new LinkedHashMap<>();
+        List<ManifestRow> manifest = null;
+        SizeBudget budget = new SizeBudget(maxTotalSize);
+
+        try (ZipInputStream zip = new ZipInputStream(body, StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            int entries = 0;
+            while ((entry = zip.getNextEntry()) != null) {
+                String name = entry.getName();
+                if (entry.isDirectory() || name.startsWith("__MACOSX/")) {
+                    continue;
+                }
+                if (++entries > maxEntries) {
+                    throw new AppException("ZIP 항목이 너무 많습니다. (최대 " + maxEntries + ")", 400);
+                }
+                if (baseName(name).equalsIgnoreCase(MANIFEST)) {
+                    manifest = parseManifest(StreamUtils.nonClosing(zip));
+                } else if (name.toLowerCase().endsWith(".pdf")) {
+                    // store 가 스트림을 닫으므로 nonClosing 으로 감싸 다음 엔트리를 계속 읽음
+                    StoredBlob previous = blobs.put(name,
+                            blobStore.store(new LimitedInputStream(StreamUtils.nonClosing(zip), maxFileSize, budget)));
+                    blobStore.release(previous);   // 같은 이름의 엔트리가 또 나온 경우 앞의 것은 쓰지 않음
+                }
+            }
+        } catch (IOException e) {
+            releaseAll(blobs.values());
+            throw new AppException("ZIP 읽기 실패: " + e.getMessage(), 400, e);
+        } catch (RuntimeException e) {
+            releaseAll(blobs.values());
+            throw e;
+        }
+
+        if (manifest == null) {
+            releaseAll(blobs.values());
+            throw new AppException("ZIP 에 " + MANIFEST + " 가 없습니다.", 400);
+        }
+
+        // 엔트리 이름은 경로 포함/미포함 모두 매칭
+        Map<String, StoredBlob> byName = new HashMap<>();
+        blobs.forEach((name, blob) -> {
+            byName.put(name, blob);
+            byName.putIfAbsent(baseName(name), blob);
+        });
+
+        List<ImportItem> items = new ArrayList<>();
+        try {
+            for (ManifestRow row : manifest) {
+                StoredBlob blob = byName.get(row.fileName());
+                if (blob == null) {
+                    items.add(new ImportItem(row.fileName(), row.productName(), null, "ZIP 에 파일이 없습니다."));
+                    continue;
+                }
+                items.add(register(row, blob, batchId));
+            }
+        } finally {
+            // 실패한 행, manifest 에 없는 PDF - 모든 행을 등록한 뒤에 정리해야 같은 내용의 다른 행이 쓰는 blob 을 지우지 않음
+            releaseAll(blobs.values());
+        }
+
+        return finish(batchId, items);
+    }
+
+    /**
+     * 서버 디렉터리 가져오기 - storage.import.root 아래의 디렉터리만 허용
+     */
+    public Map<String, Object> importDirectory(String relativePath) {
+        Path root = Paths.get(importRoot).toAbsolutePath().normalize();
+        Path dir = root.resolve(relativePath == null ? "" : relativePath).normalize();
+        if (!dir.startsWith(root) || !Files.isDirectory(dir)) {
+            throw new AppException("가져올 수 없는 경로입니다: " + relativePath, 400);
+        }
+        Path manifestPath = dir.resolve(MANIFEST);
+        if (!Files.exists(manifestPath)) {
+            throw new AppException("디렉터리에 " + MANIFEST + " 가 없습니다.", 400);
+        }
+
+        List<ManifestRow> manifest;
+        try (InputStream in = Files.newInputStream(manifestPath)) {
+            manifest = parseManifest(in);
+        } catch (IOException e) {
+            throw new AppException("manifest 읽기 실패: " + e.getMessage(), 400, e);
+        }
+
+        checkTotalSize(dir, manifest);
+
+        String batchId = UUID.randomUUID().toString();
+        List<ImportItem> items = new ArrayList<>();
+        List<StoredBlob> stored = new ArrayList<>();
+        SizeBudget budget = new SizeBudget(maxTotalSize);
+        try {
+            for (ManifestRow row : manifest) {
+                Path pdf = dir.resolve(row.fileName()).normalize();
+                if (!pdf.startsWith(dir) || !Files.isRegularFile(pdf)) {
+                    items.add(new ImportItem(row.fileName(), row.productName(), null, "파일이 없습니다."));
+                    continue;
+                }
+                StoredBlob blob;
+                try (InputStream in = new LimitedInputStream(Files.newInputStream(pdf), maxFileSize, budget)) {
+                    blob = blobStore.store(in);
+                } catch (IOException | RuntimeException e) {
+                    items.add(new ImportItem(row.fileName(), row.productName(), null, "파일 저장 실패: " + e.getMessage()));
+                    continue;
+                }
+                stored.add(blob);
+                items.add(register(row, blob, batchId));
+            }
+        } finally {
+            releaseAll(stored);
+        }
+        return finish(batchId, items);
+    }
+
+    /**
+     * 파일별 결과 - 등록된 항목은 현재 작업 상태로 갱신
+     */
+    public Map<String, Object> getBatch(String batchId) {
+        Map<Long, IngestJob> jobs = new LinkedHashMap<>();
+        ingestJobRepository.findByBatchIdOrderById(batchId).forEach(job -> jobs.put(job.getId(), job));
+        List<ImportItem> items = batches.get(batchId);
+        if (items == null && jobs.isEmpty()) {
+            throw new AppException("가져오기 결과를 찾을 수 없습니다. batchId=" + batchId, 404);
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        if (items != null) {
+            for (ImportItem item : items) {
+                IngestJob job = item.jobId() != null ? jobs.remove(item.jobId()) : null;
+                results.add(toResult(item.fileName(), item.productName(), job, item.error()));
+            }
+        }
+        jobs.values().forEach(job -> results.add(toResult(null, null, job, null)));
+
+        Map<String, Long> summary = new LinkedHashMap<>();
+        results.forEach(result -> summary.merge(String.valueOf(result.get("status")), 1L, Long::sum));
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("batchId", batchId);
+        response.put("total", results.size());
+        response.put("summary", summary);
+        response.put("items", results);
+        return response;
+    }
+
+    private ImportItem register(ManifestRow row, StoredBlob blob, String batchId) {
+        try {
+            int totalPages = row.totalPages() != null ? row.totalPages() : pageCounter.countPages(blob.path());
+            IngestJob job = ingestJobService.register(row.applianceType(), row.manufacturer(), row.productName(),
+                    totalPages, blob, batchId);
+            return new ImportItem(row.fileName(), row.productName(), job.getId(), null);
+        } catch (IOException | RuntimeException e) {
+            // 중복 키, PDF 파싱 오류 등도 이 행만 실패로 기록 (blob 은 releaseAll 에서 정리)
+            log.warn("가져오기 행 등록 실패: batchId={}, file={}, {}", batchId, row.fileName(), e.getMessage());
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            return new ImportItem(row.fileName(), row.productName(), null, error);
+        }
+    }
+
+    // 디렉터리 가져오기는 등록을 시작하기 전에 합계 크기를 확인 (일부만 등록된 채로 중단되지 않도록)
+    private void checkTotalSize(Path dir, List<ManifestRow> manifest) {
+        long total = 0;
+        for (ManifestRow row : manifest) {
+            Path pdf = dir.resolve(row.fileName()).normalize();
+            try {
+                if (pdf.startsWith(dir) && Files.isRegularFile(pdf)) {
+                    total += Files.size(pdf);
+                }
+            } catch (IOException e) {
+                // 행 처리 시 "파일 저장 실패" 로 기록됨
+            }
+        }
+        if (total > maxTotalSize) {
+            throw new AppException("가져올 파일 합계(" + total + " bytes)가 제한(" + maxTotalSize + " bytes)을 초과했습니다.", 400);
+        }
+    }
+
+    /**
+     * 이번 가져오기에서 저장한 blob 반환 - 등록된 행도, 등록 중인 다른 업로드도 참조하지 않는 것만 삭제
+     * (모든 행을 처리한 뒤에 호출해야 같은 내용의 다른 행이 쓰는 blob 을 지우지 않음)
+     */
+    private void releaseAll(Collection<StoredBlob> blobs) {
+        blobs.forEach(blobStore::release);
+    }
+
+    private Map<String, Object> finish(String batchId, List<ImportItem> items) {
+        batches.put(batchId, items);
+        long registered = items.stream().filter(item -> item.jobId() != null).count();
+        log.info("일괄 가져오기 등록: batchId={}, 등록 {} 건, 실패 {} 건", batchId, registered, items.size() - registered);
+        return getBatch(batchId);
+    }
+
+    private Map<String, Object> toResult(String fileName, String productName, IngestJob job, String error) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("fileName", fileName);
+        result.put("productName", productName);
+        result.put("jobId", job != null ? job.getId() : null);
+        result.put("applianceRecipeId", job != null ? job.getApplianceRecipeId() : null);
+        result.put("status", job != null ? job.getStatus().name() : "REJECTED");
+        result.put("message", job != null ? job.getMessage() : error);
+        return result;
+    }
+
+    // fileName,applianceType,manufacturer,productName[,totalPages] - '#' 주석, 헤더 행 허용
+    private List<ManifestRow> parseManifest(InputStream in) throws IOException {
+        List<ManifestRow> rows = new ArrayList<>();
+        try (MappingIterator<String[]> it = CSV_MAPPER.readerFor(String[].class)
+                .readValues(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            int rowNo = 0;
+            while (it.hasNextValue()) {
+                String[] cols = it.nextValue();
+                rowNo++;
+                if (rowNo == 1 && cols.length > 0 && cols[0].startsWith("\uFEFF")) {
+                    cols[0] = cols[0].substring(1).strip();   // 엑셀 저장 시 BOM
+                }
+                if (cols.length == 0 || (cols.length == 1 && cols[0].isEmpty()) || cols[0].startsWith("#")
+                        || cols[0].equalsIgnoreCase("fileName")) {
+                    continue;
+                }
+                if (cols.length < 4) {
+                    throw new AppException("manifest " + rowNo + "번째 행 형식 오류: " + String.join(",", cols), 400);
+                }
+                Integer totalPages = null;
+                if (cols.length > 4 && !cols[4].isBlank()) {
+                    try {
+                        totalPages = Integer.parseInt(cols[4]);
+                    } catch (NumberFormatException e) {
+                        throw new AppException("manifest " + rowNo + "번째 행 totalPages 오류: " + cols[4], 400);
+                    }
+                }
+                rows.add(new ManifestRow(cols[0], cols[1], cols[2], cols[3], totalPages));
+            }
+        }
+        return rows;
+    }
+
+    private String baseName(String entryName) {
+        int slash = entryName.lastIndexOf('/');
+        return slash >= 0 ? entryName.substring(slash + 1) : entryName;
+    }
+
+    // 한 번의 가져오기에서 읽은 PDF 합계 (요청 스레드 하나에서만 사용)
+    private static class SizeBudget {
+        private final long limit;
+        private long used;
+
+        SizeBudget(long limit) {
+            this.limit = limit;
+        }
+
+        void add(int read) throws IOException {
+            used += read;
+            if (used > limit) {
+                throw new IOException("가져올 파일 합계가 제한(" + limit + " bytes)을 초과했습니다.");
+            }
+        }
+    }
+
+    // 엔트리 하나의 압축 해제 크기 제한 (zip bomb 방지) + 가져오기 전체 합계 제한
+    private static class LimitedInputStream extends FilterInputStream {
+        private final long limit;
+        private final SizeBudget budget;
+        private long count;
+
+        LimitedInputStream(InputStream in, long limit, SizeBudget budget) {
+            super(in);
+            this.limit = limit;
+            this.budget = budget;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                check(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                check(read);
+            }
+            return read;
+        }
+
+        private void check(int read) throws IOException {
+            count += read;
+            if (count > limit) {
+                throw new IOException("압축 해제 크기가 제한(" + limit + " bytes)을 초과했습니다.");
+            }
+            budget.add(read);
+        }
+    }
+}
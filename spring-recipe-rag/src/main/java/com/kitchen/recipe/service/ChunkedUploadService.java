@@ -0,0 +1,250 @@
+package com.kitchen.recipe.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.kitchen.recipe.dto.ChunkedUploadRequest;
+import com.kitchen.recipe.entity.IngestJob;
+import com.kitchen.recipe.exception.AppException;
+import com.kitchen.recipe.storage.HashingFileWriter;
+import com.kitchen.recipe.storage.HashingFileWriter.HashedFile;
+import com.kitchen.recipe.storage.PdfBlobStore;
+import com.kitchen.recipe.storage.PdfBlobStore.StoredBlob;
+import com.kitchen.recipe.storage.UploadSession;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재개 가능한(resumable) 청크 업로드
+ *
+ * initiate → PUT chunk(index) 반복 → complete
+ * - 청크는 multipart 버퍼링 없이 요청 본문을 바로 미리 할당된 파일 위치에 기록
+ * - 끊긴 경우 GET 으로 빠진 청크 목록을 받아 그것만 다시 전송
+ * - 세션은 노드 메모리에 있으므로 여러 노드 운영 시 업로드 ID 기준 sticky 라우팅 필요
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChunkedUploadService {
+
+    private final PdfBlobStore blobStore;
+    private final HashingFileWriter fileWriter;
+    private final IngestJobService ingestJobService;
+
+    @Value("${storage.upload.chunk-size:4194304}")
+    private int defaultChunkSize;
+
+    @Value("${storage.upload.max-file-size:524288000}")
+    private long maxFileSize;
+
+    @Value("${storage.upload.session-ttl-ms:86400000}")
+    private long sessionTtlMs;
+
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * 업로드 시작 - 전체 크기만큼 파일을 미리 할당
+     */
+    public Map<String, Object> initiate(ChunkedUploadRequest request) {
+        if (request.getTotalSize() <= 0 || request.getTotalSize() > maxFileSize) {
+            throw new AppException("파일 크기가 허용 범위를 벗어났습니다. max=" + maxFileSize, 400);
+        }
+        int chunkSize = request.getChunkSize() != null ? request.getChunkSize() : defaultChunkSize;
+        if (chunkSize < 64 * 1024 || chunkSize > 64 * 1024 * 1024) {
+            throw new AppException("청크 크기는 64KB ~ 64MB 사이여야 합니다.", 400);
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        Path partFile = blobStore.getTempDir().resolve("chunked-" + uploadId + ".part");
+        try {
+            Files.createDirectories(partFile.getParent());
+            try (RandomAccessFile raf = new RandomAccessFile(partFile.toFile(), "rw")) {
+                raf.setLength(request.getTotalSize());
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 파일 생성 실패: " + e.getMessage());
+        }
+
+        UploadSession session = new UploadSession(uploadId, request.getApplianceType(), request.getManufacturer(),
+                request.getProductName(), request.getTotalPages(), request.getTotalSize(), chunkSize, partFile);
+        sessions.put(uploadId, session);
+        log.info("청크 업로드 시작: uploadId={}, size={}, chunks={}", uploadId, request.getTotalSize(), session.getChunkCount());
+        return status(session);
+    }
+
+    /**
+     * 청크 기록 (index 위치 = index * chunkSize)
+     */
+    public Map<String, Object> putChunk(String uploadId, int index, long contentLength, InputStream body) {
+        UploadSession session = getSession(uploadId);
+        if (index < 0 || index >= session.getChunkCount()) {
+            throw new AppException("잘못된 청크 번호입니다. index=" + index, 400);
+        }
+        int expected = session.lengthOf(index);
+        if (contentLength >= 0 && contentLength != expected) {
+            throw new AppException("청크 크기가 맞지 않습니다. expected=" + expected + ", actual=" + contentLength, 400);
+        }
+        session.touch();
+
+        // 이미 받은 청크의 재전송은 무시 (idempotent)
+        if (!session.tryClaim(index)) {
+            if (session.isReceived(index)) {
+                return status(session);
+            }
+            throw new AppException("같은 청크를 전송 중입니다. index=" + index, 409);
+        }
+
+        // 해시할 차례인 청크면 기록하면서 해시 (다시 읽지 않음)
+        MessageDigest inline = session.tryStartInlineHash(index);
+        try (FileChannel channel = session.openChannel()) {
+            long written = fileWriter.writeAt(body, channel, session.offsetOf(index), expected, inline);
+            if (written != expected) {
+                session.abortInlineHash(inline);
+                session.releaseClaim(index);
+                throw new AppException("청크 전송이 중단되었습니다. 다시 전송하세요. index=" + index, 400);
+            }
+            fileWriter.markChunkReceived(session, index, inline, channel);
+        } catch (IOException e) {
+            session.abortInlineHash(inline);
+            session.releaseClaim(index);
+            throw new AppException("청크 저장 실패: " + e.getMessage(), 500, e);
+        }
+        return status(session);
+    }
+
+    public Map<String, Object> getStatus(String uploadId) {
+        return status(getSession(uploadId));
+    }
+
+    /**
+     * 업로드 완료 - 해시 확정 후 저장소로 옮기고 인덱싱 작업 등록
+     *
+     * - 세션과 part 파일은 작업 등록까지 성공한 뒤에만 제거 (실패하면 같은 uploadId 로 complete 재시도 가능)
+     * - 저장소에는 part 파일의 하드 링크를 넘기므로 등록이 실패해도 part 파일은 남음
+     *   (새로 만든 blob 은 등록 실패 시 참조가 없으면 정리됨)
+     */
+    public IngestJob complete(String uploadId) {
+        UploadSession session = getSession(uploadId);
+        if (!session.isReceivedAll()) {
+            throw new AppException("아직 받지 못한 청크가 있습니다. missing=" + session.missingChunks(), 400);
+        }
+        // 동시에 complete 가 두 번 와도 한 번만 처리
+        if (!session.tryStartCompleting()) {
+            throw new AppException("이미 완료 처리 중인 업로드입니다.", 409);
+        }
+
+        Path staged = null;
+        StoredBlob blob = null;
+        boolean registered = false;
+        try {
+            if (!session.isComplete()) {
+                try (FileChannel channel = session.openChannel()) {
+                    fileWriter.advanceHash(session, channel);
+                }
+                if (!session.isComplete()) {
+                    throw new AppException("청크 해시를 계산하는 중입니다. 잠시 후 다시 시도하세요.", 409);
+                }
+            }
+            staged = stage(session);
+            blob = blobStore.adopt(new HashedFile(staged, session.finishHash(), session.getTotalSize()));
+            log.info("청크 업로드 완료: uploadId={}, hash={}", uploadId, blob.hash());
+            IngestJob job = ingestJobService.register(session.getApplianceType(), session.getManufacturer(),
+                    session.getProductName(), session.getTotalPages(), blob);
+            registered = true;
+            sessions.remove(uploadId, session);
+            deleteQuietly(session.getPartFile());
+            return job;
+        } catch (IOException e) {
+            throw new AppException("PDF 저장 중 오류 발생: " + e.getMessage(), 500, e);
+        } finally {
+            blobStore.release(blob);   // 등록에 실패해 참조가 없으면 삭제
+            if (!registered) {
+                if (staged != null) {
+                    deleteQuietly(staged);   // adopt 전에 실패한 경우 (옮겨졌으면 이미 없음)
+                }
+                session.finishCompleting();
+            }
+        }
+    }
+
+    // part 파일의 하드 링크 (지원하지 않는 파일시스템이면 복사)
+    private Path stage(UploadSession session) throws IOException {
+        Path staged = session.getPartFile().resolveSibling("chunked-" + session.getId() + ".adopt");
+        Files.deleteIfExists(staged);
+        try {
+            Files.createLink(staged, session.getPartFile());
+        } catch (UnsupportedOperationException | IOException e) {
+            log.debug("하드 링크 실패, 복사로 대체: {}", e.getMessage());
+            Files.copy(session.getPartFile(), staged, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return staged;
+    }
+
+    public void abort(String uploadId) {
+        UploadSession session = sessions.remove(uploadId);
+        if (session != null) {
+            deleteQuietly(session.getPartFile());
+        }
+    }
+
+    /**
+     * 오래 방치된 세션 정리
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void evictExpiredSessions() {
+        long now = System.currentTimeMillis();
+        sessions.values().removeIf(session -> {
+            if (now - session.getLastActivityAt() > sessionTtlMs && !session.isCompleting()) {
+                deleteQuietly(session.getPartFile());
+                log.info("만료된 청크 업로드 세션 삭제: {}", session.getId());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private UploadSession getSession(String uploadId) {
+        UploadSession session = sessions.get(uploadId);
+        if (session == null) {
+            throw new AppException("업로드 세션을 찾을 수 없습니다. uploadId=" + uploadId, 404);
+        }
+        return session;
+    }
+
+    private Map<String, Object> status(UploadSession session) {
+        List<Integer> missing = session.missingChunks();
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("uploadId", session.getId());
+        response.put("totalSize", session.getTotalSize());
+        response.put("chunkSize", session.getChunkSize());
+        response.put("chunkCount", session.getChunkCount());
+        response.put("receivedCount", session.receivedCount());
+        response.put("missingChunks", missing);
+        response.put("complete", missing.isEmpty());
+        return response;
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.kitchen.recipe.service;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kitchen.recipe.repository.FavoriteRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 즐겨찾기 개수 카운터 (Redis)
+ *
+ * - fav:count:user:{userId}, fav:count:recipe:{recipeId}
+ * - 추가/삭제가 커밋된 뒤 버전({키}:ver)을 올리고 키가 있을 때만 INCRBY (없으면 다음 조회 때 COUNT(*) 로 채움)
+ * - 채우기는 COUNT(*) 전에 읽은 버전이 그대로이고 키가 없을 때만 (조회 중 커밋된 증감이 빠진 값을 쓰지 않음)
+ * - Redis 장애 시 COUNT(*) 로 직접 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FavoriteCounterService {
+
+    private static final String USER_KEY = "fav:count:user:";
+    private static final String RECIPE_KEY = "fav:count:recipe:";
+    private static final String VERSION_SUFFIX = ":ver";
+
+    // KEYS: 카운터, 버전 / ARGV: 증감, TTL(ms) - 버전은 항상 올리고, 카운터는 있을 때만 증감 (0 아래로 내려가지 않음)
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local v = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "if v < 0 then redis.call('SET', KEYS[1], 0) v = 0 end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return v",
+            Long.class);
+
+    // KEYS: 카운터, 버전 / ARGV: 조회 전 버전, 값, TTL(ms) - 1: 채움, 0: 이미 있음, -1: 그 사이 변경됨
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return -1 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final FavoriteRepository favoriteRepository;
+
+    @Value("${favorite.counter.ttl-ms:86400000}")
+    private long ttlMs;
+
+    public long getUserCount(Long userId) {
+        return get(USER_KEY + userId, () -> favoriteRepository.countByUserId(userId));
+    }
+
+    public long getRecipeCount(Long recipeId) {
+        return get(RECIPE_KEY + recipeId, () -> favoriteRepository.countByRecipeId(recipeId));
+    }
+
+    /** 즐겨찾기 추가/삭제 반영 (트랜잭션 안이면 커밋 이후) */
+    public void adjust(Long userId, Long recipeId, long delta) {
+        Runnable apply = () -> {
+            adjustKey(USER_KEY + userId, delta);
+            adjustKey(RECIPE_KEY + recipeId, delta);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private long get(String key, LongSupplier counter) {
+        String version;
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+            version = redisTemplate.opsForValue().get(key + VERSION_SUFFIX);
+        } catch (RuntimeException e) {
+            log.warn("즐겨찾기 카운터 조회 실패 - DB 조회: key={}, {}", key, e.getMessage());
+            return counter.getAsLong();
+        }
+
+        long count = counter.getAsLong();
+        try {
+            // 그 사이 다른 요청이 채웠거나 증감이 커밋됐으면 쓰지 않음
+            redisTemplate.execute(FILL_SCRIPT, List.of(key, key + VERSION_SUFFIX),
+                    version != null ? version : "0", String.valueOf(count), String.valueOf(ttlMs));
+        } catch (RuntimeException e) {
+            log.warn("즐겨찾기 카운터 저장 실패: key={}, {}", key, e.getMessage());
+        }
+        return count;
+    }
+
+    private void adjustKey(String key, long delta) {
+        try {
+            redisTemplate.execute(ADJUST_SCRIPT, List.of(key, key + VERSION_SUFFIX),
+                    String.valueOf(delta), String.valueOf(ttlMs));
+        } catch (RuntimeException e) {
+            // 증감을 놓친 카운터는 틀린 값이 남지 않도록 삭제 → 다음 조회 때 다시 계산
+            log.warn("즐겨찾기 카운터 갱신 실패: key={}, {}", key, e.getMessage());
+            try {
+                redisTemplate.delete(key);
+            } catch (RuntimeException ignored) {
+                // Redis 자체가 안 되면 TTL 만료에 맡김
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.kitchen.recipe.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kitchen.recipe.repository.FavoriteRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 즐겨찾기 레시피 ID 집합 (Redis SET: fav:set:{userId})
+ *
+ * - 첫 조회 때 MySQL 에서 전체를 읽어 채움 (빈 집합도 표시하기 위해 "-" 를 함께 저장)
+ * - 추가/삭제는 커밋 이후 버전(fav:ver:{userId})을 올리고, 집합이 있을 때만 SADD/SREM (write-through)
+ * - 채우기는 스크립트 한 번으로 (집합이 없고, DB 조회 전에 읽은 버전이 그대로일 때만 SADD + PEXPIRE)
+ *   → 조회 중에 커밋된 변경이 있으면 낡은 스냅샷을 쓰지 않음
+ * - 여러 레시피 포함 여부를 스크립트 한 번(왕복 1회)으로 조회
+ * - Redis 장애 시 MySQL 로 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FavoriteMembershipService {
+
+    private static final String KEY_PREFIX = "fav:set:";
+    private static final String VERSION_PREFIX = "fav:ver:";
+    private static final String LOADED_MARKER = "-";
+
+    // 집합이 없으면 nil, 있으면 ARGV 순서대로 0/1
+    private static final RedisScript<List<Long>> CHECK_SCRIPT = listScript(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end " +
+            "local result = {} " +
+            "for i = 1, #ARGV do result[i] = redis.call('SISMEMBER', KEYS[1], ARGV[i]) end " +
+            "return result");
+
+    // KEYS: 집합, 버전 / ARGV: 조회 전 버전, TTL(ms), 멤버... - 1: 채움, 0: 이미 있음, -1: 그 사이 변경됨
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return -1 end " +
+            "for i = 3, #ARGV, 1000 do " +
+            "  redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV))) " +
+            "end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    // KEYS: 집합, 버전 / ARGV: 추가(1)/삭제(-1), 레시피 ID, TTL(ms) - 버전은 항상 올리고 집합은 있을 때만 갱신
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[3]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "if ARGV[1] == '1' then redis.call('SADD', KEYS[1], ARGV[2]) " +
+            "else redis.call('SREM', KEYS[1], ARGV[2]) end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final FavoriteRepository favoriteRepository;
+
+    @Value("${favorite.membership.ttl-ms:86400000}")
+    private long ttlMs;
+
+    public boolean contains(Long userId, Long recipeId) {
+        return containsAll(userId, List.of(recipeId)).contains(recipeId);
+    }
+
+    /**
+     * @return recipeIds 중 즐겨찾기된 ID
+     */
+    public Set<Long> containsAll(Long userId, Collection<Long> recipeIds) {
+        if (userId == null || recipeIds.isEmpty()) {
+            return Set.of();
+        }
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(recipeIds));
+        String key = KEY_PREFIX + userId;
+        try {
+            List<Long> flags = redisTemplate.execute(CHECK_SCRIPT, List.of(key),
+                    ids.stream().map(String::valueOf).toArray());
+            if (flags != null) {
+                Set<Long> favorited = new HashSet<>();
+                for (int i = 0; i < ids.size(); i++) {
+                    if (flags.get(i) == 1L) {
+                        favorited.add(ids.get(i));
+                    }
+                }
+                return favorited;
+            }
+            // 집합이 없음 → MySQL 에서 채운 뒤 메모리에서 판단
+            Set<Long> all = load(userId);
+            Set<Long> favorited = new HashSet<>(ids);
+            favorited.retainAll(all);
+            return favorited;
+        } catch (RuntimeException e) {
+            log.warn("즐겨찾기 집합 조회 실패 - DB 조회: userId={}, {}", userId, e.getMessage());
+            return new HashSet<>(favoriteRepository.findRecipeIdsByUserIdAndRecipeIdIn(userId, ids));
+        }
+    }
+
+    /** 즐겨찾기 추가/삭제 반영 (트랜잭션 안이면 커밋 이후) */
+    public void onAdded(Long userId, Long recipeId) {
+        afterCommit(() -> update(userId, recipeId, true));
+    }
+
+    public void onRemoved(Long userId, Long recipeId) {
+        afterCommit(() -> update(userId, recipeId, false));
+    }
+
+    private Set<Long> load(Long userId) {
+        String version = redisTemplate.opsForValue().get(VERSION_PREFIX + userId);
+        List<Long> recipeIds = favoriteRepository.findRecipeIdsByUserId(userId);
+        Object[] args = new Object[recipeIds.size() + 3];
+        args[0] = version != null ? version : "0";
+        args[1] = String.valueOf(ttlMs);
+        args[2] = LOADED_MARKER;
+        for (int i = 0; i < recipeIds.size(); i++) {
+            args[i + 3] = String.valueOf(recipeIds.get(i));
+        }
+        Long filled = redisTemplate.execute(FILL_SCRIPT, List.of(KEY_PREFIX + userId, VERSION_PREFIX + userId), args);
+        if (filled != null && filled < 0) {
+            log.debug("즐겨찾기 집합 채우기 생략 - 조회 중 변경됨: userId={}", userId);
+        }
+        return new HashSet<>(recipeIds);
+    }
+
+    private void update(Long userId, Long recipeId, boolean added) {
+        String key = KEY_PREFIX + userId;
+        try {
+            redisTemplate.execute(UPDATE_SCRIPT, List.of(key, VERSION_PREFIX + userId),
+                    added ? "1" : "-1", String.valueOf(recipeId), String.valueOf(ttlMs));
+        } catch (RuntimeException e) {
+            // 반영하지 못한 집합은 삭제 → 다음 조회 때 다시 로드
+            log.warn("즐겨찾기 집합 갱신 실패: userId={}, {}", userId, e.getMessage());
+            try {
+                redisTemplate.delete(key);
+            } catch (RuntimeException ignored) {
+                // Redis 자체가 안 되면 TTL 만료에 맡김
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisScript<List<Long>> listScript(String script) {
+        return new DefaultRedisScript<>(script, (Class<List<Long>>) (Class<?>) List.class);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.kitchen.recipe.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.kitchen.recipe.cache.CacheTags;
+import com.kitchen.recipe.dto.FavoritePageDto;
+import com.kitchen.recipe.dto.FavoriteRecipeDto;
+import com.kitchen.recipe.exception.AppException;
+import com.kitchen.recipe.repository.FavoriteRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 즐겨찾기 목록 페이지 조회 (키셋 페이지 + 사용자별 캐시)
+ *
+ * - (created_at, id) 내림차순 키셋, 페이지당 프로젝션 쿼리 1 번 (idx_favorite_user_created)
+ * - 페이지 캐시는 user:{userId} 태그로 기록 - 즐겨찾기가 바뀌면 FavoriteService 의 @EvictCacheTags 가
+ *   user_favorites 와 함께 그 사용자의 페이지만 삭제
+ */
+@Service
+@RequiredArgsConstructor
+public class FavoritePageService {
+
+    private final FavoriteRepository favoriteRepository;
+
+    @Value("${favorite.page.max-size:50}")
+    private int maxPageSize;
+
+    @Transactional(readOnly = true)
+    @Cacheable(value = "user_favorites_page", key = "#userId + ':' + (#cursor ?: '') + ':' + #size")
+    @CacheTags(cache = "user_favorites_page", value = "'user:' + #userId")
+    public FavoritePageDto getPage(Long userId, String cursor, int size) {
+        if (size < 1 || size > maxPageSize) {
+            throw new AppException("페이지 크기는 1~" + maxPageSize + " 사이여야 합니다.", 400);
+        }
+        Cursor after = cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor);
+        return load(userId, after, size);
+    }
+
+    private FavoritePageDto load(Long userId, Cursor after, int size) {
+        // 다음 페이지 존재 여부 확인용으로 하나 더 조회
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<FavoriteRecipeDto> rows = after == null
+                ? favoriteRepository.findPageByUserId(userId, limit)
+                : favoriteRepository.findPageByUserIdAfter(userId, after.createdAt(), after.id(), limit);
+
+        boolean hasNext = rows.size() > size;
+        List<FavoriteRecipeDto> favorites = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            FavoriteRecipeDto last = favorites.get(favorites.size() - 1);
+            nextCursor = new Cursor(last.getFavoritedAt(), last.getFavoriteId()).encode();
+        }
+        return new FavoritePageDto(new ArrayList<>(favorites), nextCursor, hasNext);
+    }
+
+    /** 페이지 커서 - "createdAt|id" 의 Base64(URL) */
+    private record Cursor(LocalDateTime createdAt, Long id) {
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String value) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+                int sep = raw.lastIndexOf('|');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, sep)), Long.valueOf(raw.substring(sep + 1)));
+            } catch (RuntimeException e) {
+                throw new AppException("잘못된 페이지 커서입니다.", 400);
+            }
+        }
+    }
+}
@@ -1,20 +1,25 @@
 package com.kitchen.recipe.service;
 
+import com.kitchen.recipe.cache.CacheTags;
+import com.kitchen.recipe.cache.EvictCacheTags;
+import com.kitchen.recipe.dto.FavoritePageDto;
 import com.kitchen.recipe.dto.RecipeDto;
-import com.kitchen.recipe.entity.Favorite;
-import com.kitchen.recipe.entity.Recipe;
 import com.kitchen.recipe.entity.User;
 import com.kitchen.recipe.exception.AppException;
 import com.kitchen.recipe.repository.FavoriteRepository;
 import com.kitchen.recipe.repository.RecipeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,43 +30,60 @@ public class FavoriteService {
 
     private final FavoriteRepository favoriteRepository;
     private final RecipeRepository recipeRepository;
+    private final FavoriteCounterService favoriteCounterService;
+    private final FavoriteMembershipService favoriteMembershipService;
+    private final PopularityService popularityService;
+    private final FavoritePageService favoritePageService;
+
+    @Value("${favorite.check.max-batch-size:100}")
+    private int maxCheckBatchSize;
 
     /**
-     * 즐겨찾기 추가
+     * 즐겨찾기 추가 (멱등) - 새로 추가되었으면 true, 이미 있었으면 false
      */
-    @CacheEvict(value = {"user_favorites", "recipe_search"}, allEntries = true)
-    public void addFavorite(Long recipeId, User user) {
-        if (favoriteRepository.existsByUserIdAndRecipeId(user.getId(), recipeId)) {
-            throw new AppException("이미 즐겨찾기에 추가된 레시피입니다.", 400);
+    // 이 사용자의 즐겨찾기 목록/페이지 캐시만 삭제 (검색/목록/상세 캐시에는 즐겨찾기 여부가 들어 있지 않음)
+    @EvictCacheTags(value = "'user:' + #user.id", condition = "#result")
+    public boolean addFavorite(Long recipeId, User user) {
+        int inserted = favoriteRepository.insertIgnore(user.getId(), recipeId, LocalDateTime.now());
+        if (inserted == 0) {
+            // 무시된 경우만 원인 확인 - 중복이 아니면 FK(레시피 없음)
+            if (!recipeRepository.existsById(recipeId)) {
+                throw new AppException("레시피를 찾을 수 없습니다.", 404);
+            }
+            return false;
         }
 
-        Recipe recipe = recipeRepository.findById(recipeId)
-            .orElseThrow(() -> new AppException("레시피를 찾을 수 없습니다.", 404));
-
-        Favorite favorite = Favorite.builder()
-            .user(user)
-            .recipe(recipe)
-            .build();
-
-        favoriteRepository.save(favorite);
+        favoriteCounterService.adjust(user.getId(), recipeId, 1);
+        favoriteMembershipService.onAdded(user.getId(), recipeId);
+        popularityService.recordFavorite(recipeId, 1);
         log.info("즐겨찾기 추가: userId={}, recipeId={}", user.getId(), recipeId);
+        return true;
     }
 
     /**
-     * 즐겨찾기 삭제
+     * 즐겨찾기 삭제 (멱등) - 실제로 삭제되었으면 true
      */
-    @CacheEvict(value = {"user_favorites", "recipe_search"}, allEntries = true)
-    public void removeFavorite(Long recipeId, User user) {
-        favoriteRepository.deleteByUserIdAndRecipeId(user.getId(), recipeId);
+    @EvictCacheTags(value = "'user:' + #user.id", condition = "#result")
+    public boolean removeFavorite(Long recipeId, User user) {
+        int deleted = favoriteRepository.deleteDirect(user.getId(), recipeId);
+        if (deleted == 0) {
+            return false;
+        }
+
+        favoriteCounterService.adjust(user.getId(), recipeId, -deleted);
+        favoriteMembershipService.onRemoved(user.getId(), recipeId);
+        popularityService.recordFavorite(recipeId, -deleted);
         log.info("즐겨찾기 삭제: userId={}, recipeId={}", user.getId(), recipeId);
+        return true;
     }
 
     /**
      * 사용자의 즐겨찾기 목록 조회
      */
     @Cacheable(value = "user_favorites", key = "#user.id")
+    @CacheTags(cache = "user_favorites", value = "'user:' + #user.id")
     public List<RecipeDto> getUserFavorites(User user) {
-        return favoriteRepository.findByUser(user)
+        return favoriteRepository.findByUserWithRecipe(user)
             .stream()
             .map(favorite -> {
                 RecipeDto dto = RecipeDto.from(favorite.getRecipe());
@@ -71,17 +93,51 @@ public class FavoriteService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * 사용자의 즐겨찾기 목록 페이지 조회 (최신순, cursor 는 이전 응답의 nextCursor)
+     */
+    @Transactional(readOnly = true)
+    public FavoritePageDto getUserFavoritesPage(User user, String cursor, int size) {
+        return favoritePageService.getPage(user.getId(), cursor, size);
+    }
+
     /**
      * 즐겨찾기 여부 확인
      */
+    @Transactional(readOnly = true)
     public boolean isFavorited(Long recipeId, User user) {
-        return favoriteRepository.existsByUserIdAndRecipeId(user.getId(), recipeId);
+        return favoriteMembershipService.contains(user.getId(), recipeId);
+    }
+
+    /**
+     * 여러 레시피의 즐겨찾기 여부를 한 번에 확인 - 즐겨찾기된 ID 만 반환
+     */
+    @Transactional(readOnly = true)
+    public List<Long> getFavoritedIds(List<Long> recipeIds, User user) {
+        Set<Long> ids = recipeIds.stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (ids.size() > maxCheckBatchSize) {
+            throw new AppException("한 번에 확인할 수 있는 레시피는 최대 " + maxCheckBatchSize + "개입니다.", 400);
+        }
+
+        Set<Long> favorited = favoriteMembershipService.containsAll(user.getId(), ids);
+        return ids.stream().filter(favorited::contains).collect(Collectors.toList());
     }
 
     /**
      * 사용자의 즐겨찾기 개수
      */
+    @Transactional(readOnly = true)
     public Long getFavoriteCount(User user) {
-        return (long) favoriteRepository.findByUser(user).size();
+        return favoriteCounterService.getUserCount(user.getId());
+    }
+
+    /**
+     * 레시피가 즐겨찾기된 횟수
+     */
+    @Transactional(readOnly = true)
+    public Long getRecipeFavoriteCount(Long recipeId) {
+        return favoriteCounterService.getRecipeCount(recipeId);
     }
 }
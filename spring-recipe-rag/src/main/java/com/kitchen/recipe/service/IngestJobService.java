@@ -0,0 +1,252 @@
+package com.kitchen.recipe.service;
+
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.kitchen.recipe.dto.ApplianceRecipeResponse;
+import com.kitchen.recipe.dto.IngestProgressEvent;
+import com.kitchen.recipe.dto.IngestProgressEvent.Phase;
+import com.kitchen.recipe.entity.ApplianceRecipe;
+import com.kitchen.recipe.entity.IngestJob;
+import com.kitchen.recipe.entity.IngestJobStatus;
+import com.kitchen.recipe.entity.IngestOutbox;
+import com.kitchen.recipe.entity.IngestOutboxStatus;
+import com.kitchen.recipe.exception.AppException;
+import com.kitchen.recipe.repository.ApplianceRepository;
+import com.kitchen.recipe.repository.IngestJobRepository;
+import com.kitchen.recipe.repository.IngestOutboxRepository;
+import com.kitchen.recipe.storage.PdfBlobStore;
+import com.kitchen.recipe.storage.PdfBlobStore.StoredBlob;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PDF 업로드 → RAG 인덱싱 작업 관리
+ *
+ * - 요청 스레드: 파일 저장 + 제품/작업/outbox 행을 한 트랜잭션으로 기록 후 바로 jobId 반환
+ * - IngestOutboxRelay: 커밋된 outbox 를 워커(ingestExecutor)로 전달, 실패 시 백오프 재시도
+ * - 클래스 단위 @Transactional 없음: 단계별로 짧은 트랜잭션만 사용 (원격 호출 중 커넥션 점유 방지)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IngestJobService {
+
+    private static final List<IngestJobStatus> ACTIVE_STATUSES =
+            List.of(IngestJobStatus.QUEUED, IngestJobStatus.EXTRACTING, IngestJobStatus.INDEXING);
+    private static final List<IngestOutboxStatus> OPEN_OUTBOX_STATUSES =
+            List.of(IngestOutboxStatus.PENDING, IngestOutboxStatus.IN_FLIGHT);
+
+    private final RecipeService recipeService;
+    private final ApplianceRepository applianceRepository;
+    private final IngestJobRepository ingestJobRepository;
+    private final IngestOutboxRepository outboxRepository;
+    private final PdfBlobStore blobStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 업로드 접수 - PDF 저장 후 인덱싱 작업 등록
+     */
+    public IngestJob submit(String applianceType, String manufacturer, String productName,
+                            int totalPages, MultipartFile file) {
+
+        StoredBlob blob = recipeService.storePdf(file);
+        try {
+            return register(applianceType, manufacturer, productName, totalPages, blob);
+        } finally {
+            blobStore.release(blob);   // 등록에 실패해 참조가 없으면 삭제
+        }
+    }
+
+    /**
+     * 저장소에 저장된 PDF 로 제품 등록 + 인덱싱 작업 등록 (일반 업로드 / 청크 업로드 공통)
+     * 제품 행, 작업 행, outbox 행은 같은 트랜잭션에서 커밋된다. (blob 반환은 호출자 - PdfBlobStore.release)
+     */
+    public IngestJob register(String applianceType, String manufacturer, String productName,
+                              int totalPages, StoredBlob blob) {
+        return register(applianceType, manufacturer, productName, totalPages, blob, null);
+    }
+
+    /**
+     * 일괄 가져오기용 - batchId 로 묶어서 등록
+     */
+    public IngestJob register(String applianceType, String manufacturer, String productName,
+                              int totalPages, StoredBlob blob, String batchId) {
+
+        IngestJob job = transactionTemplate.execute(status -> {
+            recipeService.checkDuplicateProduct(blob.hash(), manufacturer, productName);
+            Optional<ApplianceRecipe> indexed = recipeService.findIndexedByHash(blob.hash());
+            ApplianceRecipe recipe = recipeService.prepSave(applianceType, manufacturer, productName,
+                    totalPages, blob.hash());
+            // 참조 행을 쓴 뒤 blob 이 남아 있는지 다시 확인 (없으면 롤백)
+            if (!blobStore.exists(blob.hash())) {
+                throw new AppException("저장된 PDF 를 찾을 수 없습니다. 다시 업로드하세요.", 409);
+            }
+
+            // 같은 내용의 PDF 가 이미 인덱싱됨 → RAG 작업 없이 완료 처리
+            if (indexed.isPresent()) {
+                recipeService.markUploaded(recipe.getId());
+                return ingestJobRepository.save(IngestJob.builder()
+                        .applianceRecipeId(recipe.getId())
+                        .batchId(batchId)
+                        .status(IngestJobStatus.COMPLETED)
+                        .recipeCount(0)
+                        .message("동일한 PDF 가 이미 인덱싱되어 있어 재사용합니다. productName=" + indexed.get().getProductName())
+                        .build());
+            }
+            return enqueue(recipe.getId(), batchId);
+        });
+        log.info("인덱싱 작업 등록: jobId={}, applianceRecipeId={}", job.getId(), job.getApplianceRecipeId());
+        publish(job.getId(), Phase.SAVED, blob.size(), null,
+                "sha256=" + blob.hash() + (blob.deduplicated() ? " (기존 파일 재사용)" : ""));
+        publish(job.getId(), job.getStatus() == IngestJobStatus.COMPLETED ? Phase.COMPLETED : Phase.QUEUED,
+                null, null, job.getMessage());
+        return job;
+    }
+
+    // 호출하는 쪽 트랜잭션 안에서 작업 + outbox 기록
+    private IngestJob enqueue(Long applianceRecipeId, String batchId) {
+        IngestJob job = ingestJobRepository.save(IngestJob.builder()
+                .applianceRecipeId(applianceRecipeId)
+                .batchId(batchId)
+                .status(IngestJobStatus.QUEUED)
+                .build());
+        outboxRepository.save(IngestOutbox.builder()
+                .ingestJobId(job.getId())
+                .status(IngestOutboxStatus.PENDING)
+                .build());
+        return job;
+    }
+
+    /**
+     * 인덱싱 실행 (relay 워커에서 호출) - 실패 시 예외를 그대로 던져 relay 가 재시도 여부를 결정
+     * 벡터 ID 는 파일 해시 기반이고 제목 저장은 중복 제거되므로 여러 번 실행되어도 결과가 같다.
+     */
+    public void process(Long jobId) {
+        IngestJob job = ingestJobRepository.findById(jobId)
+                .orElseThrow(() -> new AppException("작업을 찾을 수 없습니다. jobId=" + jobId, 404));
+        if (job.getStatus().isTerminal()) {
+            return;
+        }
+        ApplianceRecipe recipe = applianceRepository.findById(job.getApplianceRecipeId())
+                .orElseThrow(() -> new AppException("등록된 제품을 찾을 수 없습니다.", 404));
+
+        long start = System.currentTimeMillis();
+        updateStatus(job, IngestJobStatus.EXTRACTING);
+        publish(jobId, Phase.SENDING, null, null, recipe.getFileName());
+        ApplianceRecipeResponse response = recipeService.requestIngest(recipe);
+        if (response == null) {
+            throw new AppException("RAG 서비스 응답이 없습니다.", 502);
+        }
+        long sent = System.currentTimeMillis();
+        publish(jobId, Phase.SENT, response.getChunks() != null ? response.getChunks().longValue() : null,
+                sent - start, "chunks");
+        publish(jobId, Phase.TITLES_EXTRACTED,
+                response.getRecipeTitles() != null ? (long) response.getRecipeTitles().size() : 0L, null, null);
+
+        updateStatus(job, IngestJobStatus.INDEXING);
+        int count = recipeService.saveRecipeTitles(recipe.getId(), response);
+        publish(jobId, Phase.PERSISTED, (long) count, System.currentTimeMillis() - sent, null);
+
+        job.setRecipeCount(count);
+        job.setMessage(null);
+        updateStatus(job, IngestJobStatus.COMPLETED);
+        publish(jobId, Phase.COMPLETED, (long) count, System.currentTimeMillis() - start, null);
+        log.info("인덱싱 완료: jobId={}, recipes={}", jobId, count);
+    }
+
+    /** 재시도 예약 - 작업은 다시 대기 상태로 */
+    public void markRetry(Long jobId, int attempts, LocalDateTime nextAttemptAt, String error) {
+        ingestJobRepository.findById(jobId).ifPresent(job -> {
+            job.setMessage(truncate(attempts + "회 실패, " + nextAttemptAt + " 재시도 예정: " + error));
+            updateStatus(job, IngestJobStatus.QUEUED);
+            publish(jobId, Phase.RETRY, (long) attempts, null, job.getMessage());
+        });
+    }
+
+    /** 재시도 한도 초과 등 최종 실패 */
+    public void fail(Long jobId, String message) {
+        ingestJobRepository.findById(jobId).ifPresent(job -> {
+            job.setMessage(truncate(message));
+            updateStatus(job, IngestJobStatus.FAILED);
+            recipeService.markUploadFailed(job.getApplianceRecipeId());
+            publish(jobId, Phase.FAILED, null, null, job.getMessage());
+        });
+    }
+
+    /**
+     * 기동 시 복구 - 진행 중인데 전달할 outbox 가 없는 작업, 작업 없이 "저장 중" 으로 남은 제품
+     * @return 다시 큐에 넣은 건수
+     */
+    public int recoverStuck() {
+        int recovered = 0;
+        for (IngestJob job : ingestJobRepository.findByStatusIn(ACTIVE_STATUSES)) {
+            if (!outboxRepository.existsByIngestJobIdAndStatusIn(job.getId(), OPEN_OUTBOX_STATUSES)) {
+                outboxRepository.save(IngestOutbox.builder()
+                        .ingestJobId(job.getId())
+                        .status(IngestOutboxStatus.PENDING)
+                        .build());
+                recovered++;
+            }
+        }
+        for (ApplianceRecipe recipe : applianceRepository.findByUploadStatus("저장 중")) {
+            if (ingestJobRepository.existsByApplianceRecipeId(recipe.getId())) {
+                continue;
+            }
+            if (Files.exists(recipeService.locatePdf(recipe))) {
+                transactionTemplate.executeWithoutResult(status -> enqueue(recipe.getId(), null));
+                recovered++;
+            } else {
+                log.warn("복구 불가 - PDF 파일 없음: applianceRecipeId={}", recipe.getId());
+                recipeService.markUploadFailed(recipe.getId());
+            }
+        }
+        return recovered;
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public Map<String, Object> getJobStatus(Long jobId) {
+        IngestJob job = ingestJobRepository.findById(jobId)
+                .orElseThrow(() -> new AppException("작업을 찾을 수 없습니다. jobId=" + jobId, 404));
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("jobId", job.getId());
+        response.put("status", job.getStatus());
+        response.put("applianceRecipeId", job.getApplianceRecipeId());
+        response.put("recipeCount", job.getRecipeCount());
+        response.put("message", job.getMessage());
+        response.put("createdAt", job.getCreatedAt());
+        response.put("updatedAt", job.getUpdatedAt());
+        outboxRepository.findFirstByIngestJobIdOrderByIdDesc(jobId).ifPresent(entry -> {
+            response.put("attempts", entry.getAttempts());
+            response.put("nextAttemptAt", entry.getNextAttemptAt());
+        });
+        return response;
+    }
+
+    private void updateStatus(IngestJob job, IngestJobStatus status) {
+        job.setStatus(status);
+        ingestJobRepository.save(job);
+    }
+
+    private void publish(Long jobId, Phase phase, Long count, Long elapsedMs, String message) {
+        eventPublisher.publishEvent(IngestProgressEvent.of(jobId, phase, count, elapsedMs, message));
+    }
+
+    private String truncate(String message) {
+        return message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
@@ -0,0 +1,258 @@
+package com.kitchen.recipe.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.kitchen.recipe.entity.IngestOutbox;
+import com.kitchen.recipe.entity.IngestOutboxStatus;
+import com.kitchen.recipe.exception.AppException;
+import com.kitchen.recipe.repository.IngestOutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인덱싱 outbox relay
+ *
+ * - 주기적으로 전달 시각이 된 PENDING 행을 조건부 UPDATE 로 선점(IN_FLIGHT)하고 ingestExecutor 에 넘김
+ * - 일괄 가져오기 작업은 storage.import.concurrency 건까지만 동시에 처리 (단건 업로드를 먼저 선점)
+ * - 실패: 지수 백오프(+지터)로 다시 PENDING, 최대 시도 초과 시 DEAD + 작업 FAILED
+ * - 처리 중에는 lease(locked_at)를 주기적으로 연장, 결과는 lease 가 그대로일 때만 반영 (같은 작업을 두 워커가 덮어쓰지 않도록)
+ * - lease 가 지난 IN_FLIGHT 는 다시 PENDING (워커가 죽은 경우)
+ * - 기동 시: lease 가 지난 IN_FLIGHT 해제 + outbox 없이 멈춘 작업 재등록
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IngestOutboxRelay {
+
+    private final IngestOutboxRepository outboxRepository;
+    private final IngestJobService ingestJobService;
+    private final ThreadPoolTaskExecutor ingestExecutor;
+
+    // 이 인스턴스에서 처리 중인 outbox id → lease
+    private final Map<Long, Lease> running = new ConcurrentHashMap<>();
+
+    @Value("${ingest.outbox.batch-size:10}")
+    private int batchSize;
+
+    @Value("${ingest.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${ingest.outbox.base-backoff-ms:5000}")
+    private long baseBackoffMs;
+
+    @Value("${ingest.outbox.max-backoff-ms:600000}")
+    private long maxBackoffMs;
+
+    @Value("${ingest.outbox.lease-ms:1800000}")
+    private long leaseMs;
+
+    @Value("${storage.import.concurrency:1}")
+    private int importConcurrency;
+
+    /**
+     * 기동 시 복구 - 다른 인스턴스가 처리 중인 행을 가로채지 않도록 주기 점검과 같은 lease 기준을 사용한다.
+     * (이 인스턴스가 죽기 전에 잡고 있던 행은 lease 가 지나면 poll 에서 해제됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        LocalDateTime now = LocalDateTime.now();
+        int released = outboxRepository.releaseExpired(leaseCutoff(now), now);
+        int requeued = ingestJobService.recoverStuck();
+        if (released > 0 || requeued > 0) {
+            log.info("인덱싱 outbox 복구: IN_FLIGHT 해제 {} 건, 재등록 {} 건", released, requeued);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ingest.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        int expired = outboxRepository.releaseExpired(leaseCutoff(now), now);
+        if (expired > 0) {
+            log.warn("lease 만료된 인덱싱 작업 {} 건을 다시 대기 상태로 전환", expired);
+        }
+        renewLeases(now);
+
+        // 워커 큐에 들어갈 수 있는 만큼만 선점
+        int capacity = Math.min(batchSize, ingestExecutor.getThreadPoolExecutor().getQueue().remainingCapacity());
+        if (capacity <= 0) {
+            return;
+        }
+        List<Long> dueIds = new ArrayList<>(
+                outboxRepository.findDueIds(IngestOutboxStatus.PENDING, now, PageRequest.of(0, capacity)));
+        // 가져오기 몫은 남은 자리와 가져오기 동시 처리 한도 중 작은 쪽 (인스턴스 간에는 근사 한도)
+        int importSlots = Math.min(capacity - dueIds.size(),
+                importConcurrency - (int) outboxRepository.countInFlightImports());
+        if (importSlots > 0) {
+            dueIds.addAll(outboxRepository.findDueImportIds(IngestOutboxStatus.PENDING, now,
+                    PageRequest.of(0, importSlots)));
+        }
+        for (Long id : dueIds) {
+            if (outboxRepository.claim(id, LocalDateTime.now()) == 0) {
+                continue;   // 다른 인스턴스가 먼저 가져감
+            }
+            try {
+                ingestExecutor.execute(() -> deliver(id));
+            } catch (RejectedExecutionException e) {
+                outboxRepository.unclaim(id);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 워커 스레드에서 실행 - 원격 호출 동안 트랜잭션을 열어 두지 않는다.
+     * 결과는 선점한 lease 가 그대로일 때만 조건부 UPDATE 로 반영 (처리 중 lease 는 poll 에서 연장)
+     */
+    void deliver(Long outboxId) {
+        IngestOutbox entry = outboxRepository.findById(outboxId).orElse(null);
+        if (entry == null || entry.getStatus() != IngestOutboxStatus.IN_FLIGHT || entry.getLockedAt() == null) {
+            return;
+        }
+        Long jobId = entry.getIngestJobId();
+        Lease lease = new Lease(outboxId, entry.getLockedAt());
+        running.put(outboxId, lease);
+
+        IngestOutboxStatus status;
+        LocalDateTime next = entry.getNextAttemptAt();
+        String lastError = null;
+        Runnable jobUpdate = null;
+        try {
+            try {
+                ingestJobService.process(jobId);
+                status = IngestOutboxStatus.DONE;
+            } catch (Exception e) {
+                String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+                lastError = error.length() > 1000 ? error.substring(0, 1000) : error;
+
+                if (entry.getAttempts() >= maxAttempts || !isRetryable(e)) {
+                    log.error("인덱싱 최종 실패: jobId={}, attempts={}, {}", jobId, entry.getAttempts(), error);
+                    status = IngestOutboxStatus.DEAD;
+                    jobUpdate = () -> ingestJobService.fail(jobId, error);
+                } else {
+                    LocalDateTime retryAt = LocalDateTime.now().plusNanos(backoffMs(entry.getAttempts()) * 1_000_000);
+                    log.warn("인덱싱 실패 - 재시도 예정: jobId={}, attempts={}, next={}, {}",
+                            jobId, entry.getAttempts(), retryAt, error);
+                    status = IngestOutboxStatus.PENDING;
+                    next = retryAt;
+                    int attempts = entry.getAttempts();
+                    jobUpdate = () -> ingestJobService.markRetry(jobId, attempts, retryAt, error);
+                }
+            }
+        } finally {
+            running.remove(outboxId, lease);
+        }
+
+        if (outboxRepository.finish(outboxId, lease.finish(), status, next, lastError, LocalDateTime.now()) == 0) {
+            // lease 가 만료되어 다른 워커가 다시 선점 - 그쪽 결과가 최종
+            log.warn("lease 를 잃은 인덱싱 결과는 반영하지 않음: jobId={}, status={}", jobId, status);
+            return;
+        }
+        if (jobUpdate != null) {
+            jobUpdate.run();
+        }
+    }
+
+    // 처리 중인 행의 lease 를 lease-ms 의 1/3 마다 연장 - 오래 걸리는 작업을 다른 워커가 다시 가져가지 않도록
+    void renewLeases(LocalDateTime now) {
+        LocalDateTime renewBefore = now.minusNanos(leaseMs / 3 * 1_000_000);
+        for (Lease lease : running.values()) {
+            lease.renew(renewBefore, now);
+        }
+    }
+
+    LocalDateTime leaseCutoff(LocalDateTime now) {
+        return now.minusNanos(leaseMs * 1_000_000);
+    }
+
+    // base * 2^(n-1), 상한 적용 후 ±20% 지터
+    private long backoffMs(int attempts) {
+        long delay = baseBackoffMs << Math.min(attempts - 1, 20);
+        delay = Math.min(delay, maxBackoffMs);
+        return (long) (delay * ThreadLocalRandom.current().nextDouble(0.8, 1.2));
+    }
+
+    /**
+     * 재시도 여부 - 원인 체인을 따라가며 분류
+     * - 요청 자체가 잘못된 경우(4xx, 잘못된/거절된 PDF)는 재시도해도 결과가 같으므로 바로 실패
+     * - 5xx/408/429, 연결·입출력 오류, 타임아웃, 일시적 DB 오류만 재시도
+     * - 그 외(코드 오류 등)는 재시도하지 않음
+     */
+    static boolean isRetryable(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof WebClientResponseException response) {
+                return isRetryableStatus(response.getStatusCode().value());
+            }
+            if (t instanceof AppException app) {
+                return isRetryableStatus(app.getStatusCode());
+            }
+            if (t instanceof WebClientRequestException || t instanceof IOException
+                    || t instanceof UncheckedIOException || t instanceof TimeoutException
+                    || t instanceof TransientDataAccessException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRetryableStatus(int status) {
+        return status >= 500 || status == 408 || status == 429;
+    }
+
+    /**
+     * 처리 중인 행의 lease (선점/연장 시각) - 연장과 결과 반영이 엇갈리지 않도록 동기화
+     */
+    private final class Lease {
+
+        private final Long outboxId;
+        private LocalDateTime lockedAt;
+        private boolean finished;
+
+        Lease(Long outboxId, LocalDateTime lockedAt) {
+            this.outboxId = outboxId;
+            this.lockedAt = lockedAt;
+        }
+
+        // renewBefore 보다 오래된 lease 만 연장 - 다른 워커가 가져갔으면 더 연장하지 않음
+        synchronized void renew(LocalDateTime renewBefore, LocalDateTime now) {
+            if (finished || lockedAt.isAfter(renewBefore)) {
+                return;
+            }
+            LocalDateTime renewed = now.truncatedTo(ChronoUnit.MILLIS);   // DB 정밀도와 맞춰 조건 비교가 어긋나지 않도록
+            if (outboxRepository.renewLease(outboxId, lockedAt, renewed) == 0) {
+                log.warn("인덱싱 lease 를 잃음 (다른 워커가 다시 선점): outboxId={}", outboxId);
+                finished = true;
+                return;
+            }
+            lockedAt = renewed;
+            log.debug("인덱싱 lease 연장: outboxId={}", outboxId);
+        }
+
+        // 더 이상 연장하지 않고 마지막 lease 시각 반환
+        synchronized LocalDateTime finish() {
+            finished = true;
+            return lockedAt;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.kitchen.recipe.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.kitchen.recipe.dto.IngestProgressEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인덱싱 진행 이벤트를 작업별 SSE 구독자에게 전달
+ *
+ * - 이벤트는 같은 프로세스 안에서만 전달된다 (ApplicationEventPublisher)
+ * - 구독 전에 발생한 이벤트(저장, 등록 등)도 볼 수 있도록 최근 작업의 이벤트를 일부 보관
+ * - 이벤트는 구독자별 큐에 넣고 ingestProgressExecutor 에서 전송 - 느리거나 끊긴 SSE 클라이언트가 인덱싱 워커를 막지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IngestProgressBroadcaster {
+
+    private static final int MAX_JOBS = 200;
+    private static final int MAX_EVENTS_PER_JOB = 32;
+
+    private final ThreadPoolTaskExecutor ingestProgressExecutor;
+
+    private final Map<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    // 최근 작업 이벤트 (LRU)
+    private final Map<Long, Deque<Sequenced>> history = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Deque<Sequenced>> eldest) {
+            return size() > MAX_JOBS;
+        }
+    };
+
+    @Value("${ingest.progress.sse-timeout-ms:1800000}")
+    private long sseTimeoutMs;
+
+    /**
+     * 작업 구독 - 지금까지의 이벤트를 먼저 보내고 이후 이벤트는 실시간 전달
+     *
+     * - 구독자를 먼저 등록한 뒤 보관된 이벤트를 보내므로 그 사이 이벤트도 빠지지 않음 (순번으로 중복 제거)
+     * - terminalEvent: 이미 끝난 작업이면 DB 상태로 만든 종료 이벤트 - 보관 이벤트에 종료가 없으면 보내고 바로 닫음
+     *   (재시작 등으로 이벤트가 남아 있지 않아도 타임아웃까지 열려 있지 않도록)
+     */
+    public SseEmitter subscribe(Long jobId, IngestProgressEvent terminalEvent) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        Subscriber subscriber = new Subscriber(jobId, emitter);
+        synchronized (subscriber) {
+            if (terminalEvent == null) {
+                register(subscriber);
+                emitter.onCompletion(subscriber::close);
+                emitter.onTimeout(subscriber::close);
+                emitter.onError(e -> subscriber.close());
+            }
+            for (Sequenced past : recent(jobId)) {
+                subscriber.offer(past);
+            }
+            if (terminalEvent != null && !subscriber.terminal) {
+                subscriber.offer(new Sequenced(sequence.incrementAndGet(), terminalEvent));
+            }
+            if (subscriber.terminal) {
+                unregister(subscriber);   // 보관 이벤트로 이미 끝난 작업 - 이후 이벤트 없음
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * 인덱싱 워커 스레드에서 호출 - 보관과 큐 적재만 하고 전송은 기다리지 않음
+     */
+    @EventListener
+    public void onProgress(IngestProgressEvent event) {
+        Sequenced sequenced;
+        synchronized (history) {
+            sequenced = new Sequenced(sequence.incrementAndGet(), event);
+            Deque<Sequenced> events = history.computeIfAbsent(event.jobId(), id -> new ArrayDeque<>());
+            if (events.size() >= MAX_EVENTS_PER_JOB) {
+                events.removeFirst();
+            }
+            events.addLast(sequenced);
+        }
+
+        List<Subscriber> jobSubscribers = event.phase().isTerminal()
+                ? subscribers.remove(event.jobId())
+                : subscribers.get(event.jobId());
+        if (jobSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : jobSubscribers) {
+            subscriber.offer(sequenced);
+        }
+    }
+
+    // 목록 생성/삭제를 compute 안에서 처리 - 종료 이벤트로 목록이 지워진 뒤 빈 목록이 다시 남지 않도록
+    private void register(Subscriber subscriber) {
+        subscribers.compute(subscriber.jobId, (id, list) -> {
+            List<Subscriber> registered = list != null ? list : new CopyOnWriteArrayList<>();
+            registered.add(subscriber);
+            return registered;
+        });
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.jobId, (id, list) -> {
+            list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private List<Sequenced> recent(Long jobId) {
+        synchronized (history) {
+            Deque<Sequenced> events = history.get(jobId);
+            return events != null ? new ArrayList<>(events) : List.of();
+        }
+    }
+
+    private record Sequenced(long seq, IngestProgressEvent event) {}
+
+    /**
+     * 구독자별 전송 큐 - 한 번에 하나의 전송 작업만 실행해 순서를 지킴
+     * (마지막 적재 순번으로 보관 이벤트와 실시간 이벤트의 중복 제거, 큐가 가득 차면 느린 구독자로 보고 닫음)
+     */
+    private final class Subscriber {
+        private final Long jobId;
+        private final SseEmitter emitter;
+        private final Deque<Sequenced> pending = new ArrayDeque<>();
+        private long lastSeq;
+        private boolean terminal;   // 종료 이벤트를 큐에 넣음
+        private boolean draining;
+        private boolean closed;
+
+        Subscriber(Long jobId, SseEmitter emitter) {
+            this.jobId = jobId;
+            this.emitter = emitter;
+        }
+
+        void offer(Sequenced sequenced) {
+            synchronized (this) {
+                if (closed || terminal || sequenced.seq() <= lastSeq) {
+                    return;
+                }
+                if (pending.size() >= MAX_EVENTS_PER_JOB) {
+                    log.warn("진행 이벤트를 받지 못하는 SSE 구독자 종료: jobId={}", jobId);
+                    fail(new IllegalStateException("subscriber too slow"));
+                    return;
+                }
+                lastSeq = sequenced.seq();
+                terminal = sequenced.event().phase().isTerminal();
+                pending.addLast(sequenced);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                ingestProgressExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    draining = false;
+                    fail(e);
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Sequenced next;
+                synchronized (this) {
+                    next = closed ? null : pending.pollFirst();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    send(emitter, next.event());
+                    if (next.event().phase().isTerminal()) {
+                        close();
+                        emitter.complete();
+                        return;
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    synchronized (this) {
+                        draining = false;
+                        fail(e);   // 연결 끊긴 구독자
+                    }
+                    return;
+                }
+            }
+        }
+
+        // 호출자가 동기화
+        private void fail(Exception e) {
+            close();
+            emitter.completeWithError(e);
+        }
+
+        synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending.clear();
+            unregister(this);
+        }
+    }
+
+    private void send(SseEmitter emitter, IngestProgressEvent event) throws IOException {
+        emitter.send(SseEmitter.event()
+                .name(event.phase().name())
+                .data(event));
+    }
+}
@@ -0,0 +1,70 @@
+package com.kitchen.recipe.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * RAG /ingest 파일 전송 지표
+ *
+ * - recipe.ingest.transfer.bytes: 보낸 파일 바이트 수
+ * - recipe.ingest.transfer.body: 요청 본문(파일)을 다 보낼 때까지의 시간 - streaming 모드에서만 측정
+ * - recipe.ingest.transfer{outcome=success|failure}: 응답을 받을 때까지의 시간 (Python 쪽 OCR/임베딩 포함)
+ * - recipe.ingest.transfer.in_flight: 응답을 기다리는 전송 수
+ */
+@Component
+public class IngestTransferMetrics {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter bytes;
+    private final Timer body;
+    private final Timer success;
+    private final Timer failure;
+
+    public IngestTransferMetrics(MeterRegistry registry) {
+        bytes = Counter.builder("recipe.ingest.transfer.bytes")
+                .baseUnit("bytes")
+                .description("RAG /ingest 로 보낸 파일 크기")
+                .register(registry);
+        body = Timer.builder("recipe.ingest.transfer.body")
+                .description("RAG /ingest 요청 본문 전송 시간")
+                .register(registry);
+        success = roundTrip(registry, "success");
+        failure = roundTrip(registry, "failure");
+        Gauge.builder("recipe.ingest.transfer.in_flight", inFlight, AtomicInteger::get)
+                .description("응답을 기다리는 RAG /ingest 전송 수")
+                .register(registry);
+    }
+
+    private static Timer roundTrip(MeterRegistry registry, String outcome) {
+        return Timer.builder("recipe.ingest.transfer")
+                .tag("outcome", outcome)
+                .description("RAG /ingest 요청부터 응답까지의 시간")
+                .register(registry);
+    }
+
+    public void started() {
+        inFlight.incrementAndGet();
+    }
+
+    public void bytesSent(long bytes) {
+        this.bytes.increment(bytes);
+    }
+
+    /** 요청 본문 전송 완료 */
+    public void bodySent(long elapsedMs) {
+        body.record(elapsedMs, TimeUnit.MILLISECONDS);
+    }
+
+    /** 응답 수신(또는 실패) - elapsedMs 는 요청 시작부터 응답까지 */
+    public void finished(long elapsedMs, boolean success) {
+        inFlight.decrementAndGet();
+        (success ? this.success : failure).record(elapsedMs, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,258 @@
+package com.kitchen.recipe.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.kitchen.recipe.dto.RecipeDto;
+import com.kitchen.recipe.entity.Recipe;
+import com.kitchen.recipe.repository.RecipePopularityWriter;
+import com.kitchen.recipe.repository.RecipePopularityWriter.Delta;
+import com.kitchen.recipe.repository.RecipePopularityWriter.Ranked;
+import com.kitchen.recipe.repository.RecipeRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 레시피 인기도 (조회수 + 즐겨찾기)
+ *
+ * - 요청 경로에서는 메모리의 LongAdder 만 증가 (락/DB/Redis 접근 없음)
+ * - 주기적으로 누적분을 Redis ZSET(popular:recipes, popular:recipes:{appliance})과
+ *   MySQL recipe_popularity 에 반영
+ * - 상위 K 개는 ZREVRANGE 로 조회
+ * - 즐겨찾기 증감은 커밋 이후에만 누적 (롤백된 추가/삭제는 세지 않음)
+ * - 반영 직전에 증가한 값은 다음 주기로 넘어감 (교체된 맵은 다음 주기에 한 번 더 비움)
+ * - Redis 반영이 실패하면(일부만 반영됐을 수 있음) 다음 주기에 MySQL 집계로 랭킹을 다시 만듦
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PopularityService {
+
+    private static final String KEY_ALL = "popular:recipes";
+    private static final String KEY_APPLIANCE = "popular:recipes:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RecipePopularityWriter popularityWriter;
+    private final RecipeRepository recipeRepository;
+
+    @Value("${popularity.favorite-weight:5}")
+    private double favoriteWeight;
+
+    @Value("${popularity.rebuild-size:1000}")
+    private int rebuildSize;
+
+    // 반영 주기마다 통째로 교체
+    private final AtomicReference<Counters> counters = new AtomicReference<>(new Counters());
+
+    // 직전 주기에 교체된 맵 - 교체 전에 참조를 얻은 스레드의 증가분이 늦게 들어올 수 있어 다음 주기에 한 번 더 비움
+    private Counters retired = new Counters();
+
+    // Redis 랭킹이 MySQL 과 어긋났을 수 있음 - 다음 반영 때 다시 만듦
+    private volatile boolean rankingStale;
+
+    private static class Counters {
+        final Map<Long, LongAdder> views = new ConcurrentHashMap<>();
+        final Map<Long, LongAdder> favorites = new ConcurrentHashMap<>();
+    }
+
+    public void recordView(Long recipeId) {
+        counters.get().views.computeIfAbsent(recipeId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 즐겨찾기 증감 - 트랜잭션 안이면 커밋 이후에 누적
+     */
+    public void recordFavorite(Long recipeId, long delta) {
+        Runnable apply = () -> counters.get().favorites.computeIfAbsent(recipeId, id -> new LongAdder()).add(delta);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * 누적분 반영 - MySQL 먼저, 이후 Redis (Redis 는 MySQL 에서 다시 만들 수 있음)
+     */
+    @Scheduled(fixedDelayString = "${popularity.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        Counters drained = counters.getAndSet(new Counters());
+        Map<Long, long[]> merged = new HashMap<>();
+        drain(retired, merged);
+        drain(drained, merged);
+        retired = drained;
+        if (merged.isEmpty()) {
+            rebuildIfStale();
+            return;
+        }
+
+        List<Delta> deltas = new ArrayList<>(merged.size());
+        merged.forEach((id, v) -> {
+            if (v[0] != 0 || v[1] != 0) {
+                deltas.add(new Delta(id, v[0], v[1], v[0] + v[1] * favoriteWeight));
+            }
+        });
+        if (deltas.isEmpty()) {
+            rebuildIfStale();
+            return;
+        }
+
+        try {
+            popularityWriter.addAll(deltas, favoriteWeight);
+        } catch (RuntimeException e) {
+            // DB 반영 실패 시 다음 주기에 다시 시도
+            log.warn("인기도 반영 실패 - 다음 주기에 재시도: {}", e.getMessage());
+            for (Delta d : deltas) {
+                counters.get().views.computeIfAbsent(d.recipeId(), id -> new LongAdder()).add(d.views());
+                counters.get().favorites.computeIfAbsent(d.recipeId(), id -> new LongAdder()).add(d.favorites());
+            }
+            return;
+        }
+
+        // MySQL 에는 이번 누적분까지 반영됨 - 랭킹을 다시 만들면 증분은 필요 없음
+        if (rankingStale) {
+            rebuildIfStale();
+            return;
+        }
+
+        Map<Long, String> appliances = recipeRepository.findAllById(merged.keySet()).stream()
+                .filter(r -> r.getAppliance() != null)
+                .collect(Collectors.toMap(Recipe::getId, Recipe::getAppliance));
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (Delta d : deltas) {
+                    String member = String.valueOf(d.recipeId());
+                    conn.zIncrBy(KEY_ALL, d.score(), member);
+                    String appliance = appliances.get(d.recipeId());
+                    if (appliance != null) {
+                        conn.zIncrBy(KEY_APPLIANCE + appliance, d.score(), member);
+                    }
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 일부만 반영됐을 수 있으므로 키는 그대로 두고 다음 주기에 MySQL 집계로 다시 만듦
+            log.warn("인기도 Redis 반영 실패 - 다음 주기에 랭킹 재생성: {}", e.getMessage());
+            rankingStale = true;
+        }
+        log.debug("인기도 반영: {} 건", deltas.size());
+    }
+
+    // sumThenReset 이라 비운 뒤 들어온 증가분은 다음 drain 에서 다시 집계됨
+    private void drain(Counters source, Map<Long, long[]> merged) {
+        source.views.forEach((id, adder) -> merged.computeIfAbsent(id, k -> new long[2])[0] += adder.sumThenReset());
+        source.favorites.forEach((id, adder) -> merged.computeIfAbsent(id, k -> new long[2])[1] += adder.sumThenReset());
+    }
+
+    /**
+     * 상위 K 개 레시피 (appliance 가 있으면 가전별)
+     */
+    public List<Map<String, Object>> getTop(String appliance, int limit) {
+        String key = appliance == null || appliance.isBlank() ? KEY_ALL : KEY_APPLIANCE + appliance;
+        Set<TypedTuple<String>> ranked = redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, limit - 1);
+        if (ranked == null || ranked.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        for (TypedTuple<String> tuple : ranked) {
+            scores.put(Long.valueOf(tuple.getValue()), tuple.getScore());
+        }
+        Map<Long, Recipe> recipes = recipeRepository.findAllById(scores.keySet()).stream()
+                .collect(Collectors.toMap(Recipe::getId, Function.identity()));
+
+        List<Map<String, Object>> result = new ArrayList<>(scores.size());
+        scores.forEach((id, score) -> {
+            Recipe recipe = recipes.get(id);
+            if (recipe != null) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("rank", result.size() + 1);
+                entry.put("score", score);
+                entry.put("recipe", RecipeDto.from(recipe));
+                result.add(entry);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 기동 시 랭킹이 없으면 MySQL 집계 상위 N 개로 다시 만듦
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfMissing() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(KEY_ALL))) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            log.warn("인기 레시피 랭킹 복구 실패: {}", e.getMessage());
+            rankingStale = true;
+        }
+    }
+
+    private void rebuildIfStale() {
+        if (!rankingStale) {
+            return;
+        }
+        try {
+            rebuild();
+            rankingStale = false;
+        } catch (RuntimeException e) {
+            log.warn("인기 레시피 랭킹 재생성 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    // 기존 랭킹 키(가전별은 SCAN 으로 찾음)를 지우고 MySQL 집계 상위 N 개로 채움
+    private void rebuild() {
+        List<Ranked> top = popularityWriter.findTop(rebuildSize);
+        List<String> keys = new ArrayList<>();
+        keys.add(KEY_ALL);
+        try (Cursor<String> cursor = redisTemplate.scan(
+                ScanOptions.scanOptions().match(KEY_APPLIANCE + "*").count(500).build())) {
+            cursor.forEachRemaining(keys::add);
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.del(keys.toArray(String[]::new));
+            for (Ranked r : top) {
+                String member = String.valueOf(r.recipeId());
+                conn.zAdd(KEY_ALL, r.score(), member);
+                if (r.appliance() != null) {
+                    conn.zAdd(KEY_APPLIANCE + r.appliance(), r.score(), member);
+                }
+            }
+            return null;
+        });
+        log.info("인기 레시피 랭킹 재생성: {} 건", top.size());
+    }
+}
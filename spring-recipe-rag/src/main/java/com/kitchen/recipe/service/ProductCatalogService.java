@@ -0,0 +1,83 @@
+package com.kitchen.recipe.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import com.kitchen.recipe.dto.ProductCatalogDto;
+import com.kitchen.recipe.dto.ProductSummaryDto;
+import com.kitchen.recipe.repository.ApplianceRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 대시보드 제품 목록 (카테고리별 캐시)
+ *
+ * - 필요한 컬럼만 조회하는 프로젝션 쿼리 (idx_appliance_recipe_type)
+ * - 업로드 상태가 바뀌면 해당 카테고리 캐시를 커밋 이후에 삭제
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCatalogService {
+
+    static final String CACHE_NAME = "product_catalog";
+
+    private final ApplianceRepository applianceRepository;
+    private final CacheManager cacheManager;
+
+    @Cacheable(value = CACHE_NAME, key = "#category")
+    public ProductCatalogDto getCatalog(String category) {
+        List<ProductSummaryDto> products = applianceRepository.findSummariesByApplianceType(category);
+        return new ProductCatalogDto(category, etagOf(products), products);
+    }
+
+    /**
+     * 카테고리 캐시 삭제 - 트랜잭션 안이면 커밋 이후 (롤백되면 삭제하지 않음)
+     */
+    public void evict(String category) {
+        if (category == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(category);
+                }
+            });
+        } else {
+            evictNow(category);
+        }
+    }
+
+    private void evictNow(String category) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.evict(category);
+            log.debug("제품 목록 캐시 삭제: {}", category);
+        }
+    }
+
+    // 목록 내용이 같으면 같은 ETag (약한 비교용)
+    private String etagOf(List<ProductSummaryDto> products) {
+        StringBuilder sb = new StringBuilder();
+        for (ProductSummaryDto p : products) {
+            sb.append(p.getId()).append('|')
+              .append(p.getProductName()).append('|')
+              .append(p.getManufacturer()).append('|')
+              .append(p.getFileName()).append('|')
+              .append(p.getTotalPages()).append('|')
+              .append(p.getUploadStatus()).append('\n');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,152 @@
+package com.kitchen.recipe.service;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.kitchen.recipe.config.RateLimitProperties;
+import com.kitchen.recipe.config.RateLimitProperties.Route;
+import com.kitchen.recipe.security.TokenBucket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자/IP 별 토큰 버킷 요청 제한
+ *
+ * - 요청 경로에서는 로컬 lock-free 버킷만 사용 (Redis 왕복 없음)
+ * - sync-interval-ms 마다 로컬 소비량을 Redis 전역 버킷에 반영하고 전역 잔량으로 보정
+ *   → 노드가 여러 대여도 한 동기화 주기 이내의 초과분만 허용된다.
+ * - 지표: recipe.ratelimit.requests{route, result=allowed|rejected}, recipe.ratelimit.buckets
+ */
+@Service
+@Slf4j
+public class RateLimiterService {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    // KEYS[1]=버킷 키, ARGV = capacity, refillPerMs, consumed, ttlMs → 남은 토큰 수
+    private static final RedisScript<String> SYNC_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+            "local rate = tonumber(ARGV[2]) " +
+            "local consumed = tonumber(ARGV[3]) " +
+            "local t = redis.call('TIME') " +
+            "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) " +
+            "local data = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+            "local tokens = tonumber(data[1]) or capacity " +
+            "local ts = tonumber(data[2]) or now " +
+            "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate) - consumed " +
+            "if tokens < 0 then tokens = 0 end " +
+            "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now)) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+            "return tostring(tokens)",
+            String.class);
+
+    private final RateLimitProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry registry;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiterService(RateLimitProperties properties, StringRedisTemplate redisTemplate,
+                              MeterRegistry registry) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.registry = registry;
+        Gauge.builder("recipe.ratelimit.buckets", buckets, Map::size)
+                .description("요청 제한 로컬 버킷 수")
+                .register(registry);
+    }
+
+    /**
+     * 요청 1건 허용 여부
+     * @param userKey 인증된 사용자 식별자 (없으면 null)
+     * @return 0 이면 허용, 양수면 Retry-After (초)
+     */
+    public long tryAcquire(Route route, String userKey, String ip) {
+        long waitNanos = 0;
+        TokenBucket userBucket = null;
+        if (userKey != null && route.getCapacity() > 0) {
+            userBucket = bucket(route.getName() + ":u:" + userKey, route.getCapacity(), route.getRefillPerMinute());
+            waitNanos = userBucket.tryConsume();
+        }
+        if (waitNanos == 0 && ip != null && route.getIpCapacity() > 0) {
+            waitNanos = bucket(route.getName() + ":ip:" + ip, route.getIpCapacity(), route.getIpRefillPerMinute())
+                    .tryConsume();
+            if (waitNanos > 0 && userBucket != null) {
+                // IP 에서 거부된 요청은 사용자 토큰을 쓰지 않은 것으로 되돌림
+                userBucket.refund();
+            }
+        }
+
+        if (waitNanos == 0) {
+            count(route, "allowed");
+            return 0;
+        }
+        count(route, "rejected");
+        return Math.max(1, (long) Math.ceil(Math.min(waitNanos, 3_600_000_000_000L) / 1_000_000_000.0));
+    }
+
+    private TokenBucket bucket(String key, long capacity, long refillPerMinute) {
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, refillPerMinute));
+    }
+
+    /**
+     * 로컬 버킷 ↔ Redis 전역 버킷 동기화
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sync-interval-ms:1000}")
+    public void reconcile() {
+        if (!properties.isEnabled() || buckets.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, TokenBucket> entry : buckets.entrySet()) {
+            TokenBucket bucket = entry.getValue();
+            long idleMs = now - bucket.getLastAccessMs();
+            long consumed = bucket.drainUnsynced();
+
+            if (consumed == 0 && idleMs > properties.getIdleEvictMs()) {
+                buckets.remove(entry.getKey(), bucket);
+                continue;
+            }
+            // 최근 동기화 주기 동안 쓰이지 않은 버킷은 건너뜀
+            if (consumed == 0 && idleMs > properties.getSyncIntervalMs() * 2) {
+                continue;
+            }
+
+            long ttlMs = (long) Math.ceil(bucket.getCapacity() / Math.max(bucket.getRefillPerMs(), 1e-9)) + 60_000;
+            try {
+                String remaining = redisTemplate.execute(SYNC_SCRIPT,
+                        Collections.singletonList(KEY_PREFIX + entry.getKey()),
+                        String.valueOf(bucket.getCapacity()),
+                        String.valueOf(bucket.getRefillPerMs()),
+                        String.valueOf(consumed),
+                        String.valueOf(Math.min(ttlMs, 86_400_000L)));
+                if (remaining != null) {
+                    bucket.reconcile(Double.parseDouble(remaining));
+                }
+            } catch (Exception e) {
+                // Redis 장애 시 로컬 제한만으로 동작, 소비량은 다음 주기에 다시 반영
+                bucket.restoreUnsynced(consumed);
+                log.warn("rate limit 동기화 실패: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void count(Route route, String result) {
+        Counter.builder("recipe.ratelimit.requests")
+                .tag("route", route.getName()).tag("result", result)
+                .description("요청 제한 판정")
+                .register(registry)
+                .increment();
+    }
+}
@@ -0,0 +1,122 @@
+package com.kitchen.recipe.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kitchen.recipe.cache.CacheTags;
+import com.kitchen.recipe.dto.RecipeDto;
+import com.kitchen.recipe.entity.Recipe;
+import com.kitchen.recipe.exception.AppException;
+import com.kitchen.recipe.repository.RecipeRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자와 무관한 레시피 조회 결과 캐시 (RAG 검색, 상세, 가전제품/카테고리 목록)
+ *
+ * - 미리 갱신(refresh-ahead/XFetch)이 백그라운드에서 그대로 다시 호출하므로 부수 효과와 사용자별 데이터를 두지 않는다.
+ *   검색 이력 저장과 즐겨찾기 여부(isFavorited)는 RecipeSearchService 에서 캐시 밖에서 처리.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class RecipeQueryCache {
+
+    private final RecipeRepository recipeRepository;
+    private final WebClient webClient;
+
+    /**
+     * RAG 시스템을 통한 레시피 검색
+     */
+    // 빈 결과는 캐시 정책(cache-empty: false)으로 제외, sync 는 미리 갱신(refresh-ahead)에 필요
+    // 태그: 결과에 포함된 레시피, 가전제품(미지정이면 all) - 레시피 추가 시 해당 항목만 삭제
+    @Cacheable(value = "recipe_search", key = "#query + '_' + #appliance + '_' + #limit", sync = true)
+    @CacheTags(cache = "recipe_search",
+               value = {"'appliance:' + (#appliance ?: 'all')", "#result.!['recipe:' + id]"})
+    public List<RecipeDto> search(String query, String appliance, Integer limit) {
+        try {
+            return callRagService(query, appliance, limit);
+        } catch (Exception e) {
+            log.error("RAG 서비스 호출 실패: {}", e.getMessage());
+            throw new AppException("레시피 검색에 실패했습니다.", 500);
+        }
+    }
+
+    @Cacheable(value = "recipe_detail", key = "#id")
+    @CacheTags(cache = "recipe_detail", value = "'recipe:' + #id")
+    public RecipeDto detail(Long id) {
+        Recipe recipe = recipeRepository.findById(id)
+            .orElseThrow(() -> new AppException("레시피를 찾을 수 없습니다.", 404));
+        return RecipeDto.from(recipe);
+    }
+
+    @Cacheable(value = "recipes_by_appliance", key = "#appliance", sync = true)
+    @CacheTags(cache = "recipes_by_appliance", value = {"'appliance:' + #appliance", "#result.!['recipe:' + id]"})
+    public List<RecipeDto> byAppliance(String appliance) {
+        return recipeRepository.findByAppliance(appliance).stream()
+            .map(RecipeDto::from)
+            .collect(Collectors.toList());
+    }
+
+    @Cacheable(value = "recipes_by_category", key = "#category", sync = true)
+    @CacheTags(cache = "recipes_by_category", value = {"'category:' + #category", "#result.!['recipe:' + id]"})
+    public List<RecipeDto> byCategory(String category) {
+        return recipeRepository.findByCategory(category).stream()
+            .map(RecipeDto::from)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Python RAG 서비스에 검색 요청
+     */
+    private List<RecipeDto> callRagService(String query, String appliance, Integer limit) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("query", query);
+        request.put("appliance", appliance);
+        request.put("limit", limit != null ? limit : 10);
+
+        try {
+            String response = webClient
+                .post()
+                .uri("/search")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(String.class)
+                .block();
+
+            // JSON 파싱 및 Recipe 객체로 변환
+            return parseRagResponse(response);
+
+        } catch (Exception e) {
+            log.error("Python RAG 서비스 호출 실패: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * RAG 서비스 응답 파싱
+     */
+    private List<RecipeDto> parseRagResponse(String response) {
+        List<RecipeDto> recipes = new ArrayList<>();
+        ObjectMapper mapper = new ObjectMapper();
+        try {
+            recipes = mapper.readValue(response, new TypeReference<List<RecipeDto>>() { });
+        } catch (Exception e) {
+            log.info("파싱 오류: {}", e.getMessage());
+        }
+        return recipes;
+    }
+}
@@ -1,22 +1,14 @@
 package com.kitchen.recipe.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kitchen.recipe.dto.RecipeDto;
-import com.kitchen.recipe.entity.Recipe;
 import com.kitchen.recipe.entity.SearchHistory;
 import com.kitchen.recipe.entity.User;
-import com.kitchen.recipe.exception.AppException;
-import com.kitchen.recipe.repository.RecipeRepository;
 import com.kitchen.recipe.repository.SearchHistoryRepository;
-import com.kitchen.recipe.repository.FavoriteRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -27,73 +19,22 @@ import java.util.stream.Collectors;
 @Transactional
 public class RecipeSearchService {
 
-    private final RecipeRepository recipeRepository;
+    private final RecipeQueryCache recipeQueryCache;
     private final SearchHistoryRepository searchHistoryRepository;
-    private final FavoriteRepository favoriteRepository;
-    private final WebClient webClient;
+    private final FavoriteMembershipService favoriteMembershipService;
 
     /**
      * RAG 시스템을 통한 레시피 검색
      */
-    @Cacheable(value = "recipe_search", key = "#query + '_' + #appliance + '_' + #limit", 
-               unless = "#result == null || #result.isEmpty()")
+    // 캐시되는 건 사용자와 무관한 검색 결과만 - 이력 저장/즐겨찾기 표시는 요청마다 캐시 밖에서
     public List<RecipeDto> searchRecipes(String query, String appliance, Integer limit, User currentUser) {
-        try {
-            // Python RAG 서비스 호출
-            List<RecipeDto> recipes = callRagService(query, appliance, limit);
+        List<RecipeDto> recipes = recipeQueryCache.search(query, appliance, limit);
 
-            // 검색 이력 저장
-            recordSearchHistory(currentUser, query, recipes.size());
+        // 검색 이력 저장
+        recordSearchHistory(currentUser, query, recipes.size());
 
-            // 사용자의 즐겨찾기 정보 추가
-            return enrichWithFavoriteInfo(recipes, currentUser);
-
-        } catch (Exception e) {
-            log.error("RAG 서비스 호출 실패: {}", e.getMessage());
-            throw new AppException("레시피 검색에 실패했습니다.", 500);
-        }
-    }
-
-    /**
-     * Python RAG 서비스에 검색 요청
-     */
-    private List<RecipeDto> callRagService(String query, String appliance, Integer limit) {
-        Map<String, Object> request = new HashMap<>();
-        request.put("query", query);
-        request.put("appliance", appliance);
-        request.put("limit", limit != null ? limit : 10);
-
-        try {
-            String response = webClient
-                .post()
-                .uri("/search")
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(String.class)
-                .block();
-
-            // JSON 파싱 및 Recipe 객체로 변환
-            return parseRagResponse(response);
-
-        } catch (Exception e) {
-            log.error("Python RAG 서비스 호출 실패: {}", e.getMessage());
-            return Collections.emptyList();
-        }
-    }
-
-    /**
-     * RAG 서비스 응답 파싱
-     */
-    private List<RecipeDto> parseRagResponse(String response) {
-        List<RecipeDto> recipes = new ArrayList<>();
-        // JSON 파싱 및 Recipe 객체 생성     //  ObjectMapper 사용
-        ObjectMapper mapper = new ObjectMapper();
-        try{
-            recipes = mapper.readValue(response, new TypeReference<List<RecipeDto>> (){ });
-        } catch(Exception e){
-            log.info("파싱 오류: {}",e.getMessage());
-        }
-        return recipes;
+        // 사용자의 즐겨찾기 정보 추가
+        return enrichWithFavoriteInfo(recipes, currentUser);
     }
 
     /**
@@ -112,35 +53,27 @@ public class RecipeSearchService {
     }
 
     /**
-     * 즐겨찾기 정보 추가
+     * 즐겨찾기 정보 추가 - 캐시에서 꺼낸 값(역직렬화된 사본)에만 표시
      */
     private List<RecipeDto> enrichWithFavoriteInfo(List<RecipeDto> recipes, User currentUser) {
+        // 레시피마다 exists 쿼리 대신 Redis 집합에 한 번에 조회
+        Set<Long> favorited = currentUser != null
+            ? favoriteMembershipService.containsAll(currentUser.getId(),
+                recipes.stream().map(RecipeDto::getId).filter(Objects::nonNull).toList())
+            : Set.of();
         return recipes.stream()
-            .peek(recipe -> {
-                if (currentUser != null) {
-                    boolean isFavorited = favoriteRepository
-                        .existsByUserIdAndRecipeId(currentUser.getId(), recipe.getId());
-                    recipe.setIsFavorited(isFavorited);
-                } else {
-                    recipe.setIsFavorited(false);
-                }
-            })
+            .peek(recipe -> recipe.setIsFavorited(favorited.contains(recipe.getId())))
             .collect(Collectors.toList());
     }
 
     /**
      * 레시피 상세 조회
      */
-    @Cacheable(value = "recipe_detail", key = "#id")
     public RecipeDto getRecipeDetail(Long id, User currentUser) {
-        Recipe recipe = recipeRepository.findById(id)
-            .orElseThrow(() -> new AppException("레시피를 찾을 수 없습니다.", 404));
+        RecipeDto dto = recipeQueryCache.detail(id);
 
-        RecipeDto dto = RecipeDto.from(recipe);
-        
         if (currentUser != null) {
-            boolean isFavorited = favoriteRepository
-                .existsByUserIdAndRecipeId(currentUser.getId(), id);
+            boolean isFavorited = favoriteMembershipService.contains(currentUser.getId(), id);
             dto.setIsFavorited(isFavorited);
         }
 
@@ -150,25 +83,15 @@ public class RecipeSearchService {
     /**
      * 가전제품별 레시피 목록
      */
-    @Cacheable(value = "recipes_by_appliance", key = "#appliance")
     public List<RecipeDto> getRecipesByAppliance(String appliance, User currentUser) {
-        List<Recipe> recipes = recipeRepository.findByAppliance(appliance);
-        return enrichWithFavoriteInfo(
-            recipes.stream().map(RecipeDto::from).collect(Collectors.toList()),
-            currentUser
-        );
+        return enrichWithFavoriteInfo(recipeQueryCache.byAppliance(appliance), currentUser);
     }
 
     /**
      * 카테고리별 레시피 목록
      */
-    @Cacheable(value = "recipes_by_category", key = "#category")
     public List<RecipeDto> getRecipesByCategory(String category, User currentUser) {
-        List<Recipe> recipes = recipeRepository.findByCategory(category);
-        return enrichWithFavoriteInfo(
-            recipes.stream().map(RecipeDto::from).collect(Collectors.toList()),
-            currentUser
-        );
+        return enrichWithFavoriteInfo(recipeQueryCache.byCategory(category), currentUser);
     }
 
     /**
@@ -1,29 +1,46 @@
 package com.kitchen.recipe.service;
 
-import java.io.File;
 import java.io.IOException;
-import java.io.RandomAccessFile;
-import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
-import java.security.MessageDigest;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.kitchen.recipe.cache.CacheTagIndex;
 import com.kitchen.recipe.dto.ApplianceRecipeResponse;
 import com.kitchen.recipe.entity.ApplianceRecipe;
-import com.kitchen.recipe.entity.Recipe;
+import com.kitchen.recipe.exception.AppException;
 import com.kitchen.recipe.repository.ApplianceRepository;
+import com.kitchen.recipe.repository.RecipeBulkWriter;
 import com.kitchen.recipe.repository.RecipeRepository;
+import com.kitchen.recipe.storage.PdfBlobStore;
+import com.kitchen.recipe.storage.PdfBlobStore.StoredBlob;
 
+import io.netty.buffer.PooledByteBufAllocator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 
 @Transactional
 @Slf4j
@@ -34,162 +51,234 @@ public class RecipeService {
     private final ApplianceRepository repository;
     private final RecipeRepository recipeRepository;
     private final WebClient webClient;
-    private static final String SAVE_DIR = "/home/sohkim/rbook";  // 저장 위치
-
-   public List<ApplianceRecipe> getProductsByCategory(String category) {
-    return repository.findByApplianceType(category)
-            .stream()
-            .map(book -> ApplianceRecipe.builder()
-                    .id(book.getId())
-                    .applianceType(book.getApplianceType())
-                    .fileName(book.getFileName())
-                    .manufacturer(book.getManufacturer())
-                    .productName(book.getProductName())
-                    .totalPages(book.getTotalPages())
-                    .uploadStatus(book.getUploadStatus())
-                    .build())
-            .toList();
+    private final PdfBlobStore blobStore;     // 저장 위치: storage.pdf.root
+    private final IngestTransferMetrics transferMetrics;
+    private final RecipeBulkWriter recipeBulkWriter;
+    private final ProductCatalogService productCatalogService;
+    private final CacheTagIndex cacheTagIndex;
+
+    // /ingest 전송 방식: streaming(고정 크기 DataBuffer) | resource(FileSystemResource)
+    @Value("${python.rag.ingest.transfer-mode:streaming}")
+    private String ingestTransferMode;
+
+    @Value("${python.rag.ingest.chunk-size:65536}")
+    private int ingestChunkSize;
+
+    // 청킹/임베딩 설정 버전 - 바꾸면 재인덱싱 시 모든 페이지가 다시 전송됨
+    @Value("${ingest.index-version:v1}")
+    private String indexVersion;
+
+    // 기존 제목 조회 IN 절 크기
+    private static final int TITLE_LOOKUP_BATCH = 500;
+
+    // 악센트(결합 문자) - 한글 자모는 NFD 로 분해돼도 \p{M} 이 아니라 그대로 남음
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    // Netty 풀링 버퍼 - 전송 후 Netty 가 release
+    private final DataBufferFactory bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+
+    public static String pdfFileName(String manufacturer, String productName) {
+        return manufacturer + "_" + productName + ".pdf";
     }
 
     public ApplianceRecipe prepSave(String applianceType,
                               String manufacturer,
                               String productName,
-                              int totalPages) {
-         String fileName = manufacturer + "_" + productName + ".pdf";                                
+                              int totalPages,
+                              String fileHash) {
+         String fileName = pdfFileName(manufacturer, productName);
          ApplianceRecipe recipe = ApplianceRecipe.builder()
                     .applianceType(applianceType)
                     .manufacturer(manufacturer)
                     .productName(productName)
                     .fileName(fileName)
                     .totalPages(totalPages)
+                    .fileHash(fileHash)     // 인덱싱 중에도 같은 파일 재업로드 차단
                     .uploadStatus("저장 중")
                     .build();
+         productCatalogService.evict(applianceType);
          return repository.save(recipe);  
 
     }
 
-    public ApplianceRecipe processUpload(ApplianceRecipe recipe,
-                        //       String applianceType,
-                        //       String manufacturer,
-                        //       String productName,
-                        //       int totalPages,
-                              MultipartFile file) throws Exception{
-
-        // String fileName = manufacturer + "_" + productName + ".pdf";
-       
-        String fileHashString = savePdfFile(file, recipe.getFileName()); 
-        File saveFile = new File(SAVE_DIR, recipe.getFileName());    
-       
-
-            // 1️⃣ DB 저장
-        //   ApplianceRecipe recipe = ApplianceRecipe.builder()
-        //             .applianceType(applianceType)
-        //             .manufacturer(manufacturer)
-        //             .productName(productName)
-        //             .fileName(fileName)
-        //             .totalPages(totalPages)
-        //             .fileHash(fileHashString)
-        //             .uploadStatus("UPLOADED")
-        //             .build();
-
-            // 2️⃣ Python RAG 서버에 파일 전송
-            ApplianceRecipeResponse  newRecipes = webClient.post()
+    /**
+     * Python RAG 서버에 파일 전송 (/ingest)
+     * - 응답까지 수 분이 걸릴 수 있으므로 트랜잭션(DB 커넥션) 없이 실행
+     * - streaming 모드: 파일을 고정 크기 DataBuffer 로 나눠 backpressure 에 맞춰 전송
+     *   (동시에 여러 대용량 매뉴얼을 보내도 힙/다이렉트 메모리가 파일 크기만큼 늘지 않음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ApplianceRecipeResponse requestIngest(ApplianceRecipe recipe) {
+        return requestIngest(recipe, List.of());
+    }
+
+    /**
+     * legacyProducts: 같은 PDF 를 쓰는 다른 제품 - 이들의 이전 ID 체계(제조사_제품명) 벡터도 삭제
+     * (요청한 제품 자신의 이전 벡터는 RAG 서비스가 함께 삭제)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ApplianceRecipeResponse requestIngest(ApplianceRecipe recipe, List<ApplianceRecipe> legacyProducts) {
+        Path pdfPath = locatePdf(recipe);
+
+        long start = System.currentTimeMillis();
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        if ("streaming".equalsIgnoreCase(ingestTransferMode)) {
+            // 마지막 버퍼를 내보낸 시점까지가 파일 전송 시간 (이후는 Python OCR/임베딩 대기)
+            Flux<DataBuffer> content = DataBufferUtils.read(pdfPath, bufferFactory, ingestChunkSize)
+                    .doOnNext(buffer -> transferMetrics.bytesSent(buffer.readableByteCount()))
+                    .doOnComplete(() -> transferMetrics.bodySent(System.currentTimeMillis() - start));
+            builder.asyncPart("file", content, DataBuffer.class)
+                    .filename(recipe.getFileName())
+                    .contentType(MediaType.APPLICATION_PDF);
+        } else {
+            // 저장 파일명은 <sha256>.pdf 이므로 원래 파일명으로 전송
+            builder.part("file", new FileSystemResource(pdfPath))
+                    .filename(recipe.getFileName())
+                    .contentType(MediaType.APPLICATION_PDF);
+        }
+        builder.part("fileName", recipe.getFileName());
+        builder.part("manufacturer", recipe.getManufacturer());
+        builder.part("productName", recipe.getProductName());
+        if (recipe.getFileHash() != null) {
+            builder.part("documentId", recipe.getFileHash());   // 벡터 ID 기준 - 재전송해도 같은 ID 로 upsert
+        }
+        for (ApplianceRecipe other : legacyProducts) {
+            builder.part("legacyName", other.getManufacturer() + "_" + other.getProductName());
+        }
+        builder.part("indexVersion", indexVersion);
+
+        transferMetrics.started();
+        boolean success = false;
+        try {
+            ApplianceRecipeResponse response = webClient.post()
                         .uri("/ingest")
                         .contentType(MediaType.MULTIPART_FORM_DATA)
-                        .body(BodyInserters.fromMultipartData("file",new FileSystemResource(saveFile))  // file.getResource()
-                                .with("fileName", recipe.getFileName())
-                                .with("manufacturer", recipe.getManufacturer())
-                                .with("productName", recipe.getProductName())
-                        )
+                        .body(BodyInserters.fromMultipartData(builder.build()))
                         .retrieve()
                         .bodyToMono(ApplianceRecipeResponse.class)
-                        //     .subscribe();    // 비동기처리 - db 저장시 트랜잭션 처리 안됨.
                         .block();
-                                        
-            newRecipes.getRecipeTitles().stream()
-                .map(title -> Recipe.builder()
-                        .title(title)
-                        .appliance(recipe.getApplianceType())
-                        .bookName(newRecipes.getFileName())
-                        .build()
-                )
-                .forEach(recipeRepository::save);
-            log.info("저장된 레시피 {} 개",newRecipes.getRecipeTitles().size());
-            recipe.setFileHash(fileHashString);
-            recipe.setUploadStatus("UPLOADED");   
-         return repository.save(recipe);        
-
+            success = true;
+            return response;
+        } finally {
+            long elapsed = System.currentTimeMillis() - start;
+            transferMetrics.finished(elapsed, success);
+            log.info("/ingest 요청 {}: file={}, mode={}, 응답까지 {}ms", success ? "완료" : "실패",
+                    recipe.getFileName(), ingestTransferMode, elapsed);
+        }
     }
 
-    private String savePdfFile(MultipartFile file, String fileName) {
+    /**
+     * /ingest 결과(레시피 제목) 저장 및 업로드 완료 처리
+     * - 인덱스 버전 기록 (재인덱싱 시 현재 버전으로 인덱싱된 책은 건너뜀)
+     */
+    public int saveRecipeTitles(Long applianceRecipeId, ApplianceRecipeResponse newRecipes) {
+        ApplianceRecipe recipe = repository.findById(applianceRecipeId)
+                .orElseThrow(() -> new AppException("등록된 제품을 찾을 수 없습니다. id=" + applianceRecipeId, 404));
 
-        try {
-                File dir = new File(SAVE_DIR);
+        List<String> titles = newRecipes.getRecipeTitles() != null ? newRecipes.getRecipeTitles() : List.of();
+        String bookName = newRecipes.getFileName();
 
-                // 디렉터리 없으면 생성
-                if (!dir.exists()) {
-                dir.mkdirs();
-                }
+        // (bookName, title) 기준 중복 제거 - 기존 제목은 (appliance, title) 색인으로 조회
+        // MySQL 이 대소문자/악센트를 무시하고 찾은 제목과 비교하므로 양쪽 모두 titleKey 로 정규화해 비교
+        Map<String, String> unique = new LinkedHashMap<>();
+        for (String title : titles) {
+            if (title == null || title.isBlank()) {
+                continue;
+            }
+            String trimmed = title.strip();
+            if (trimmed.length() > 200) {
+                trimmed = trimmed.substring(0, 200);   // recipes.title 길이
+            }
+            unique.putIfAbsent(titleKey(trimmed), trimmed);
+        }
+        List<String> candidates = new ArrayList<>(unique.values());
+        for (int from = 0; from < candidates.size(); from += TITLE_LOOKUP_BATCH) {
+            List<String> batch = candidates.subList(from, Math.min(from + TITLE_LOOKUP_BATCH, candidates.size()));
+            for (String existing : recipeRepository.findExistingTitles(recipe.getApplianceType(), bookName, batch)) {
+                unique.remove(titleKey(existing));
+            }
+        }
 
-                // 저장 경로
-                File saveFile = new File(dir, fileName);
-                // file.transferTo(saveFile);   // 임시파일을 사용하므로 transferTo 가 move 하면 참조 오류 발생
-                Files.copy(file.getInputStream(), saveFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        int saved = recipeBulkWriter.insertTitles(bookName, recipe.getApplianceType(), new ArrayList<>(unique.values()));
+        log.info("저장된 레시피 {} 개 (추출 {} 개, 중복 제외 {} 개)", saved, titles.size(), titles.size() - saved);
+        recipe.setUploadStatus("UPLOADED");
+        recipe.setIndexVersion(indexVersion);
+        repository.save(recipe);
+        if (recipe.getFileHash() != null) {
+            repository.markIndexed(recipe.getFileHash(), indexVersion);
+        }
+        productCatalogService.evict(recipe.getApplianceType());
+        if (saved > 0) {
+            // 새 레시피가 보여야 하는 목록/검색 캐시만 삭제 (커밋 이후)
+            cacheTagIndex.evict(List.of("appliance:" + recipe.getApplianceType(), "appliance:all"));
+        }
+        return saved;
+    }
 
+    /**
+     * 제목 비교 키 - recipes.title 컬럼 collation(utf8mb4_0900_ai_ci)과 같은 규칙: 대소문자, 악센트 무시
+     */
+    static String titleKey(String title) {
+        String decomposed = Normalizer.normalize(title.strip(), Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
 
-                // 1️⃣ 파일 해시 계산 - 중복 파일 있으면 예외 발생 else 서버에 저장
-                String hexString = generateFingerprintHash(saveFile);
-                log.info("file hexString : {}",hexString);
-                // 2️⃣ 중복 파일 체크
-                repository.findByFileHash(hexString.toString()).ifPresent(existing -> {
-                        saveFile.delete();
-                        throw new RuntimeException("이미 업로드된 동일한 파일입니다. productName=" + existing.getProductName());
-                });
+    public void markUploadFailed(Long applianceRecipeId) {
+        repository.findById(applianceRecipeId).ifPresent(recipe -> {
+            recipe.setUploadStatus("실패");
+            repository.save(recipe);
+            productCatalogService.evict(recipe.getApplianceType());
+        });
+    }
 
-                return hexString;
+    /**
+     * 업로드된 PDF 를 내용 주소 기반 저장소에 저장 (쓰면서 SHA-256 계산, 한 번의 디스크 패스)
+     * - 다른 제품이 같은 파일을 쓰는 경우는 blob 공유
+     */
+    public StoredBlob storePdf(MultipartFile file) {
+        StoredBlob blob;
+        try (InputStream in = file.getInputStream()) {
+            blob = blobStore.store(in);
         } catch (IOException e) {
-                throw new RuntimeException("PDF 저장 중 오류 발생: " + e.getMessage());
+            throw new RuntimeException("PDF 저장 중 오류 발생: " + e.getMessage());
         }
+        log.info("file hexString : {} ({} bytes, dedup={})", blob.hash(), blob.size(), blob.deduplicated());
+        return blob;
     }
 
-    private String generateFingerprintHash(File file) {
-
-        // 1️⃣ RandomAccessFile로 접근
-        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
-
-            long fileSize = raf.length();
-            byte[] buffer = new byte[1024];  // 1KB
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-
-            // --- 1️⃣ 앞 1KB ---
-            int readBytes = raf.read(buffer);
-            digest.update(buffer, 0, readBytes);
+    /**
+     * 같은 제품으로 같은 파일을 다시 올리면 예외
+     */
+    public void checkDuplicateProduct(String fileHash, String manufacturer, String productName) {
+        if (repository.existsByFileHashAndManufacturerAndProductName(fileHash, manufacturer, productName)) {
+            throw new AppException("이미 업로드된 동일한 파일입니다. productName=" + productName, 400);
+        }
+    }
 
-            // --- 2️⃣ 중간 1KB ---
-            long midPos = Math.max(0, fileSize / 2);
-            raf.seek(midPos);
-            readBytes = raf.read(buffer);
-            digest.update(buffer, 0, readBytes);
+    /**
+     * 같은 내용의 PDF 로 이미 인덱싱이 끝난 제품 (있으면 /ingest 생략)
+     */
+    public Optional<ApplianceRecipe> findIndexedByHash(String fileHash) {
+        return repository.findFirstByFileHashAndUploadStatus(fileHash, "UPLOADED");
+    }
 
-            // --- 3️⃣ 마지막 1KB ---
-            long endPos = Math.max(0, fileSize - 1024);
-            raf.seek(endPos);
-            readBytes = raf.read(buffer);
-            digest.update(buffer, 0, readBytes);
+    public void markUploaded(Long applianceRecipeId) {
+        repository.findById(applianceRecipeId).ifPresent(recipe -> {
+            recipe.setUploadStatus("UPLOADED");
+            repository.save(recipe);
+            productCatalogService.evict(recipe.getApplianceType());
+        });
+    }
 
-            // 🔥 최종 fingerprint hash 반환
-            byte[] hashBytes = digest.digest();
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hashBytes) {
-                hexString.append(String.format("%02x", b));
-            }
-            
-            return hexString.toString();
-    } catch (Exception e) {
-        file.delete();
-        throw new RuntimeException("Fingerprint 계산 중 오류 발생: " + e.getMessage());
+    /**
+     * 저장된 PDF 경로 - blob 이 없으면 이전 방식(manufacturer_productName.pdf) 파일
+     */
+    public Path locatePdf(ApplianceRecipe recipe) {
+        if (blobStore.exists(recipe.getFileHash())) {
+            return blobStore.resolve(recipe.getFileHash());
+        }
+        return blobStore.legacyPath(recipe.getFileName());
     }
-}
 
     public long getCount(){
         return recipeRepository.count();
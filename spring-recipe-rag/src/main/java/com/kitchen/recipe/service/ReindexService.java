@@ -0,0 +1,166 @@
+package com.kitchen.recipe.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.kitchen.recipe.dto.ApplianceRecipeResponse;
+import com.kitchen.recipe.entity.ApplianceRecipe;
+import com.kitchen.recipe.exception.AppException;
+import com.kitchen.recipe.repository.ApplianceRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장된 PDF 재인덱싱 (관리자)
+ *
+ * - 저장된 PDF 는 내용 주소 기반이라 바뀌지 않으므로 책 단위로 전체를 다시 전송
+ * - 현재 인덱스 버전(ingest.index-version)으로 이미 인덱싱된 책은 건너뜀 (force 면 모두 전송)
+ * - 책 단위 병렬 처리는 reindexExecutor 풀 크기로 제한
+ * - 같은 시점에는 한 번의 실행만 허용
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReindexService {
+
+    private final ApplianceRepository applianceRepository;
+    private final RecipeService recipeService;
+    private final ThreadPoolTaskExecutor reindexExecutor;
+
+    @Value("${ingest.index-version:v1}")
+    private String indexVersion;
+
+    private volatile ReindexRun currentRun;
+
+    /** 실행 진행 상황 */
+    static class ReindexRun {
+        final LocalDateTime startedAt = LocalDateTime.now();
+        volatile LocalDateTime finishedAt;
+        final boolean force;
+        final int books;
+        final AtomicInteger completed = new AtomicInteger();
+        final AtomicInteger unchanged = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+
+        ReindexRun(boolean force, int books) {
+            this.force = force;
+            this.books = books;
+        }
+    }
+
+    /**
+     * 인덱싱 완료된 전체 책 재인덱싱 시작
+     */
+    public synchronized Map<String, Object> startAll(boolean force) {
+        List<ApplianceRecipe> books = distinctBooks(applianceRepository.findByUploadStatus("UPLOADED"));
+        return start(books, force);
+    }
+
+    /**
+     * 한 제품의 책만 재인덱싱
+     */
+    public synchronized Map<String, Object> startOne(Long applianceRecipeId, boolean force) {
+        ApplianceRecipe recipe = applianceRepository.findById(applianceRecipeId)
+                .orElseThrow(() -> new AppException("등록된 제품을 찾을 수 없습니다. id=" + applianceRecipeId, 404));
+        return start(List.of(recipe), force);
+    }
+
+    public Map<String, Object> getStatus() {
+        ReindexRun run = currentRun;
+        if (run == null) {
+            return Map.of("status", "IDLE");
+        }
+        return toMap(run);
+    }
+
+    private Map<String, Object> start(List<ApplianceRecipe> books, boolean force) {
+        if (currentRun != null && currentRun.finishedAt == null) {
+            throw new AppException("재인덱싱이 이미 진행 중입니다.", 409);
+        }
+        ReindexRun run = new ReindexRun(force, books.size());
+        currentRun = run;
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(books.size());
+        for (ApplianceRecipe book : books) {
+            futures.add(CompletableFuture.runAsync(() -> reindexBook(book, run), reindexExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .whenComplete((v, e) -> {
+                    run.finishedAt = LocalDateTime.now();
+                    log.info("재인덱싱 종료: books={}, changed={}, unchanged={}, failed={}",
+                            run.books, run.completed.get(), run.unchanged.get(), run.failed.get());
+                });
+        log.info("재인덱싱 시작: books={}, force={}", books.size(), force);
+        return toMap(run);
+    }
+
+    private void reindexBook(ApplianceRecipe recipe, ReindexRun run) {
+        try {
+            if (!run.force && indexVersion.equals(recipe.getIndexVersion())) {
+                run.unchanged.incrementAndGet();
+                return;
+            }
+
+            // 벡터 ID 가 파일 해시 기준이 되기 전(제조사_제품명 md5)에 저장된 벡터는 documentId 로 지워지지 않으므로
+            // 같은 PDF 를 쓰는 제품 이름을 함께 보내 RAG 서비스가 삭제하도록 함
+            ApplianceRecipeResponse response = recipeService.requestIngest(recipe, sharingProducts(recipe));
+            if (response == null) {
+                throw new AppException("RAG 서비스 응답이 없습니다.", 502);
+            }
+            recipeService.saveRecipeTitles(recipe.getId(), response);   // 인덱스 버전도 기록
+
+            run.completed.incrementAndGet();
+            log.info("재인덱싱 완료: applianceRecipeId={}", recipe.getId());
+        } catch (Exception e) {
+            run.failed.incrementAndGet();
+            log.error("재인덱싱 실패: applianceRecipeId={}, {}", recipe.getId(), e.getMessage());
+        }
+    }
+
+    private List<ApplianceRecipe> sharingProducts(ApplianceRecipe recipe) {
+        if (recipe.getFileHash() == null) {
+            return List.of();
+        }
+        return applianceRepository.findByFileHash(recipe.getFileHash()).stream()
+                .filter(other -> !other.getId().equals(recipe.getId()))
+                .toList();
+    }
+
+    // 같은 PDF 를 공유하는 제품은 벡터도 공유 → 파일 해시별로 가장 먼저 등록된 제품 하나만
+    private List<ApplianceRecipe> distinctBooks(List<ApplianceRecipe> recipes) {
+        Map<String, ApplianceRecipe> byHash = recipes.stream()
+                .sorted(Comparator.comparing(ApplianceRecipe::getId))
+                .collect(Collectors.toMap(
+                        r -> r.getFileHash() != null ? r.getFileHash() : "id:" + r.getId(),
+                        Function.identity(),
+                        (first, second) -> first,
+                        LinkedHashMap::new));
+        return new ArrayList<>(byHash.values());
+    }
+
+    private Map<String, Object> toMap(ReindexRun run) {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("status", run.finishedAt == null ? "RUNNING" : "FINISHED");
+        status.put("force", run.force);
+        status.put("books", run.books);
+        status.put("changed", run.completed.get());
+        status.put("unchanged", run.unchanged.get());
+        status.put("failed", run.failed.get());
+        status.put("startedAt", run.startedAt);
+        status.put("finishedAt", run.finishedAt);
+        return status;
+    }
+}
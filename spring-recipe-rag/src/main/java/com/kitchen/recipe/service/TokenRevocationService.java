@@ -0,0 +1,141 @@
+package com.kitchen.recipe.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import com.kitchen.recipe.security.JwtTokenProvider;
+import com.kitchen.recipe.security.RevokedTokenBloomFilter;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Access Token 폐기(revocation) 관리
+ *
+ * - 폐기된 jti 는 Redis 에 남은 수명만큼 TTL 로 저장 (auth:revoked:{jti})
+ * - 각 노드는 pub/sub 이벤트로 로컬 Bloom filter 를 갱신
+ * - 요청마다 Bloom filter 로 음성 판정(대부분의 요청)을 상수 시간에 끝내고,
+ *   양성일 때만 Redis 에서 확인한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService implements MessageListener {
+
+    public static final String REVOKED_CHANNEL = "auth:revoked";
+    private static final String REVOKED_KEY_PREFIX = "auth:revoked:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Value("${jwt.revocation.expected-insertions:100000}")
+    private int expectedInsertions;
+
+    @Value("${jwt.revocation.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    private RevokedTokenBloomFilter bloomFilter;
+
+    @PostConstruct
+    public void init() {
+        // 회전 주기 = Access Token 수명 → 폐기된 jti 는 토큰이 만료될 때까지 필터에 남는다.
+        this.bloomFilter = new RevokedTokenBloomFilter(
+                expectedInsertions, falsePositiveRate, jwtTokenProvider.getExpirationTime());
+        log.info("revocation bloom filter: bits={}, hashes={}", bloomFilter.getNumBits(), bloomFilter.getNumHashes());
+    }
+
+    /**
+     * Access Token 폐기 (로그아웃)
+     */
+    public void revoke(String accessToken) {
+        if (accessToken == null || accessToken.isBlank()) {
+            return;
+        }
+        String jti;
+        Date expiration;
+        try {
+            Claims claims = jwtTokenProvider.parseClaims(accessToken);
+            jti = claims.getId();
+            expiration = claims.getExpiration();
+        } catch (JwtException | IllegalArgumentException e) {
+            // 이미 만료되었거나 위조된 토큰은 폐기할 필요 없음
+            log.debug("폐기 대상 아님: {}", e.getMessage());
+            return;
+        }
+        if (jti == null || expiration == null) {
+            return;
+        }
+
+        long remainingMs = expiration.getTime() - System.currentTimeMillis();
+        if (remainingMs <= 0) {
+            return;
+        }
+
+        bloomFilter.put(jti);
+        try {
+            redisTemplate.opsForValue().set(REVOKED_KEY_PREFIX + jti, "1", Duration.ofMillis(remainingMs));
+            redisTemplate.convertAndSend(REVOKED_CHANNEL, jti);
+            log.info("Access Token 폐기: jti={}, ttl={}ms", jti, remainingMs);
+        } catch (Exception e) {
+            log.error("Access Token 폐기 전파 실패: jti={}, {}", jti, e.getMessage());
+        }
+    }
+
+    /**
+     * 폐기 여부 확인 - Bloom filter 음성이면 바로 false
+     * @param jti 검증된 토큰의 ID (이전 버전에서 발급된 토큰은 null)
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_KEY_PREFIX + jti));
+        } catch (Exception e) {
+            // Redis 장애 시 양성 판정된 토큰은 폐기된 것으로 간주 (fail-closed)
+            log.warn("폐기 토큰 확인 실패, 거부 처리: jti={}, {}", jti, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 다른 노드에서 폐기된 jti 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String jti = new String(message.getBody(), StandardCharsets.UTF_8);
+        bloomFilter.put(jti);
+    }
+
+    /**
+     * 기동 시 Redis 에 남아있는 폐기 목록으로 Bloom filter 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildFromRedis() {
+        ScanOptions options = ScanOptions.scanOptions().match(REVOKED_KEY_PREFIX + "*").count(1000).build();
+        int loaded = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                bloomFilter.put(cursor.next().substring(REVOKED_KEY_PREFIX.length()));
+                loaded++;
+            }
+            log.info("폐기 토큰 Bloom filter 재구성: {} 건", loaded);
+        } catch (Exception e) {
+            log.warn("폐기 토큰 목록 로드 실패: {}", e.getMessage());
+        }
+    }
+}
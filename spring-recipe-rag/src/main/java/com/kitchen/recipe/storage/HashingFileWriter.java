@@ -0,0 +1,133 @@
+package com.kitchen.recipe.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스트림을 디스크에 쓰면서 동시에 SHA-256 을 계산하는 writer
+ *
+ * - 입력 → direct buffer → (digest, FileChannel) 한 번의 패스로 처리 (다시 읽지 않음)
+ * - 같은 디렉터리의 임시 파일에 먼저 쓰고, 호출 측이 중복 검사 후 moveAtomically() 로 확정
+ */
+@Component
+@Slf4j
+public class HashingFileWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_SUFFIX = ".part";
+
+    // 워커/요청 스레드마다 direct buffer 재사용 (매번 할당하지 않음)
+    private static final ThreadLocal<ByteBuffer> BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+    public record HashedFile(Path path, String sha256, long size) {}
+
+    /**
+     * dir 안의 임시 파일로 저장하면서 해시 계산
+     */
+    public HashedFile writeToTemp(InputStream in, Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Path temp = Files.createTempFile(dir, "upload-", TEMP_SUFFIX);
+        MessageDigest digest = newDigest();
+        ByteBuffer buffer = BUFFER.get();
+        long size = 0;
+
+        try (ReadableByteChannel source = Channels.newChannel(in);
+             FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+            buffer.clear();
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                // digest 는 duplicate 뷰로 소비 → 원본 position 은 쓰기에 그대로 사용
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    size += target.write(buffer);
+                }
+                buffer.clear();
+            }
+            target.force(false);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return new HashedFile(temp, HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    /**
+     * 청크 업로드: 스트림을 FileChannel 의 지정 위치에 최대 length 바이트까지 기록
+     * @param digest null 이 아니면 기록하는 바이트를 함께 반영
+     * @return 실제로 기록한 바이트 수 (연결이 끊기면 length 보다 작음)
+     */
+    public long writeAt(InputStream in, FileChannel target, long position, long length, MessageDigest digest)
+            throws IOException {
+        ReadableByteChannel source = Channels.newChannel(in);
+        ByteBuffer buffer = BUFFER.get();
+        long written = 0;
+        while (written < length) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), length - written));
+            int read = source.read(buffer);
+            if (read == -1) {
+                break;
+            }
+            buffer.flip();
+            if (digest != null) {
+                digest.update(buffer.duplicate());
+            }
+            while (buffer.hasRemaining()) {
+                written += target.write(buffer, position + written);
+            }
+        }
+        return written;
+    }
+
+    /**
+     * 청크 수신 완료 처리 + 연속 구간 해시 진행 (스레드 direct buffer 재사용)
+     */
+    public void markChunkReceived(UploadSession session, int index, MessageDigest inline, FileChannel channel)
+            throws IOException {
+        session.markReceived(index, inline, channel, BUFFER.get());
+    }
+
+    /** 남은 연속 구간 해시 진행 (이전 해시 도중 오류가 난 경우 complete 에서 이어서 처리) */
+    public void advanceHash(UploadSession session, FileChannel channel) throws IOException {
+        session.advanceHash(channel, BUFFER.get());
+    }
+
+    /**
+     * 임시 파일을 최종 경로로 원자적 이동 (같은 파일시스템 rename)
+     */
+    public void moveAtomically(Path source, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            log.warn("atomic move 미지원, 일반 이동으로 대체: {}", target);
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.kitchen.recipe.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.kitchen.recipe.repository.ApplianceRepository;
+import com.kitchen.recipe.storage.HashingFileWriter.HashedFile;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내용 주소 기반(content-addressed) PDF 저장소
+ *
+ * {root}/blobs/ab/cd/abcd....pdf  (SHA-256 앞 4자리로 2단계 샤딩)
+ * - 같은 내용의 PDF 는 제품명이 달라도 한 번만 저장된다.
+ * - 참조 수 = ApplianceRecipe.fileHash 가 같은 행의 수 + 아직 등록 중인 업로드(pin) 수. 둘 다 0 이면 release() 로 삭제.
+ * - 같은 해시의 저장/삭제는 해시별 striped lock 으로 직렬화 (삭제 중인 blob 을 재사용하거나, 동시에 처음 올린 두 업로드가
+ *   서로의 blob 을 지우지 않도록). 저장소 루트가 로컬 디스크이므로 lock 도 인스턴스 안에서만 유효하다.
+ * - 해시로 경로가 바로 계산되므로 조회는 파일시스템 연산 한 번.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PdfBlobStore {
+
+    private final HashingFileWriter fileWriter;
+    private final ApplianceRepository applianceRepository;
+
+    @Value("${storage.pdf.root:/home/sohkim/rbook}")
+    private String rootPath;
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Object[] locks = newLocks();
+    // 저장/편입 후 아직 등록이 끝나지 않은 업로드 수 (release 전까지 삭제 금지)
+    private final Map<String, Integer> pins = new ConcurrentHashMap<>();
+
+    private Path root;
+    private Path blobDir;
+    private Path tempDir;
+
+    public record StoredBlob(String hash, Path path, long size, boolean deduplicated) {}
+
+    @PostConstruct
+    public void init() {
+        this.root = Paths.get(rootPath).toAbsolutePath().normalize();
+        this.blobDir = root.resolve("blobs");
+        this.tempDir = root.resolve("tmp");   // blobs 와 같은 파일시스템 → rename 이 원자적
+        log.info("PDF 저장소: {}", root);
+    }
+
+    /**
+     * 스트림을 저장하고 해시 반환 - 이미 같은 내용이 있으면 디스크에 남기지 않는다.
+     * 반환된 blob 은 등록 성공/실패와 관계없이 release(blob) 로 돌려줘야 한다.
+     */
+    public StoredBlob store(InputStream in) throws IOException {
+        HashedFile written = fileWriter.writeToTemp(in, tempDir);
+        return adopt(written);
+    }
+
+    /**
+     * 이미 해시가 계산된 임시 파일을 저장소로 편입 (청크 업로드 등) - store 와 같이 release(blob) 필요
+     */
+    public StoredBlob adopt(HashedFile written) throws IOException {
+        Path target = resolve(written.sha256());
+        synchronized (lockFor(written.sha256())) {
+            boolean deduplicated = Files.exists(target);
+            if (deduplicated) {
+                Files.deleteIfExists(written.path());
+                log.info("중복 PDF - 기존 blob 재사용: {}", written.sha256());
+            } else {
+                fileWriter.moveAtomically(written.path(), target);
+            }
+            pins.merge(written.sha256(), 1, Integer::sum);
+            return new StoredBlob(written.sha256(), target, written.size(), deduplicated);
+        }
+    }
+
+    public Path resolve(String hash) {
+        if (hash == null || hash.length() < 4 || !hash.matches("[0-9a-f]+")) {
+            throw new IllegalArgumentException("잘못된 파일 해시: " + hash);
+        }
+        return blobDir.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash + ".pdf");
+    }
+
+    public boolean exists(String hash) {
+        return hash != null && hash.matches("[0-9a-f]{4,}") && Files.exists(resolve(hash));
+    }
+
+    /** 이전 버전(manufacturer_productName.pdf) 파일 경로 */
+    public Path legacyPath(String fileName) {
+        return root.resolve(fileName);
+    }
+
+    public Path getTempDir() {
+        return tempDir;
+    }
+
+    /**
+     * store/adopt 로 받은 blob 반환 - 등록 중인 다른 업로드도, 참조하는 ApplianceRecipe 도 없으면 삭제
+     * (등록에 성공했으면 참조가 있으므로 남는다)
+     */
+    public void release(StoredBlob blob) {
+        if (blob == null) {
+            return;
+        }
+        String hash = blob.hash();
+        synchronized (lockFor(hash)) {
+            if (pins.merge(hash, -1, Integer::sum) <= 0) {
+                pins.remove(hash);
+            } else {
+                return;   // 같은 내용을 아직 등록 중인 업로드가 있음
+            }
+            if (!exists(hash) || applianceRepository.countByFileHash(hash) > 0) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(resolve(hash));
+                log.info("참조 없는 PDF blob 삭제: {}", hash);
+            } catch (IOException e) {
+                log.warn("PDF blob 삭제 실패: {}, {}", hash, e.getMessage());
+            }
+        }
+    }
+
+    private Object lockFor(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static Object[] newLocks() {
+        Object[] locks = new Object[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+}
@@ -0,0 +1,23 @@
+package com.kitchen.recipe.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.springframework.stereotype.Component;
+
+/**
+ * PDF 페이지 수 계산 (PDFBox) - 매니페스트에 페이지 수가 없는 일괄 가져오기 행에 사용
+ */
+@Component
+public class PdfPageCounter {
+
+    public int countPages(Path pdf) throws IOException {
+        // 큰 매뉴얼도 힙에 올리지 않도록 임시 파일 기반 캐시 사용
+        try (PDDocument document = Loader.loadPDF(pdf.toFile(), IOUtils.createTempFileOnlyStreamCache())) {
+            return document.getNumberOfPages();
+        }
+    }
+}
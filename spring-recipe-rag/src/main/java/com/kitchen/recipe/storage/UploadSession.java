@@ -0,0 +1,240 @@
+package com.kitchen.recipe.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HexFormat;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 청크 업로드 세션 - 미리 할당된 파일에 청크를 위치 지정 쓰기(positional write)
+ *
+ * 청크는 순서와 상관없이 도착할 수 있고, SHA-256 은 앞에서부터 연속으로 받은
+ * 청크까지만 점진적으로 계산한다. (complete 시점에 전체를 다시 읽지 않음)
+ * - 해시할 차례인 청크는 기록하면서 digest 사본에 반영 (성공 시에만 확정)
+ * - 먼저 도착한 뒤쪽 청크는 차례가 되면 해시 담당 스레드가 잠금 밖에서 파일을 읽어 반영
+ *   (해시 담당은 한 번에 한 스레드 - 다른 청크 PUT 은 막히지 않음)
+ */
+@Getter
+public class UploadSession {
+
+    private final String id;
+    private final String applianceType;
+    private final String manufacturer;
+    private final String productName;
+    private final int totalPages;
+    private final long totalSize;
+    private final int chunkSize;
+    private final int chunkCount;
+    private final Path partFile;
+    private final long createdAt = System.currentTimeMillis();
+    private volatile long lastActivityAt = createdAt;
+
+    private final BitSet received;
+    private final BitSet writing;  // 쓰기 중인 청크 (같은 청크 동시 PUT 방지)
+    private MessageDigest digest;
+    private int hashedChunks;      // 해시에 반영된 연속 청크 수
+    private Object hashOwner;      // 해시 담당 토큰 (null 이면 비어 있음)
+    private String finalHash;
+    private boolean completing;    // complete 처리 중 (중복 complete 방지)
+
+    public UploadSession(String id, String applianceType, String manufacturer, String productName,
+                         int totalPages, long totalSize, int chunkSize, Path partFile) {
+        this.id = id;
+        this.applianceType = applianceType;
+        this.manufacturer = manufacturer;
+        this.productName = productName;
+        this.totalPages = totalPages;
+        this.totalSize = totalSize;
+        this.chunkSize = chunkSize;
+        this.chunkCount = (int) ((totalSize + chunkSize - 1) / chunkSize);
+        this.partFile = partFile;
+        this.received = new BitSet(chunkCount);
+        this.writing = new BitSet(chunkCount);
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public long offsetOf(int index) {
+        return (long) index * chunkSize;
+    }
+
+    public int lengthOf(int index) {
+        return (int) Math.min(chunkSize, totalSize - offsetOf(index));
+    }
+
+    public void touch() {
+        lastActivityAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 청크 쓰기 권한 획득 - 이미 받았거나 다른 요청이 쓰는 중이면 false
+     */
+    public synchronized boolean tryClaim(int index) {
+        if (received.get(index) || writing.get(index)) {
+            return false;
+        }
+        writing.set(index);
+        return true;
+    }
+
+    /** 쓰기 실패 시 권한 반납 (클라이언트가 같은 청크를 다시 보낼 수 있도록) */
+    public synchronized void releaseClaim(int index) {
+        writing.clear(index);
+    }
+
+    public synchronized boolean isReceived(int index) {
+        return received.get(index);
+    }
+
+    /**
+     * index 가 해시할 차례이고 해시 담당이 비어 있으면, 기록하면서 갱신할 digest 사본 반환 (아니면 null)
+     */
+    public synchronized MessageDigest tryStartInlineHash(int index) {
+        if (hashOwner != null || index != hashedChunks || finalHash != null) {
+            return null;
+        }
+        try {
+            MessageDigest copy = (MessageDigest) digest.clone();
+            hashOwner = copy;
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            return null;   // 기록 후 파일에서 읽어 해시
+        }
+    }
+
+    /** 기록 실패 시 사본 폐기 */
+    public synchronized void abortInlineHash(MessageDigest inline) {
+        if (inline != null && hashOwner == inline) {
+            hashOwner = null;
+        }
+    }
+
+    /**
+     * 청크 수신 완료 표시 - 기록하면서 해시했으면 확정하고, 이어서 받아 둔 청크까지 해시 진행
+     */
+    public void markReceived(int index, MessageDigest inline, FileChannel channel, ByteBuffer buffer)
+            throws IOException {
+        synchronized (this) {
+            writing.clear(index);
+            received.set(index);
+            if (inline != null && hashOwner == inline) {
+                digest = inline;
+                hashedChunks++;
+                hashOwner = null;
+            }
+        }
+        advanceHash(channel, buffer);
+    }
+
+    /**
+     * 해시 담당을 맡을 수 있으면, 연속으로 받은 청크를 파일에서 읽어 해시 (잠금은 청크 사이에만 잡음)
+     */
+    public void advanceHash(FileChannel channel, ByteBuffer buffer) throws IOException {
+        Object token = new Object();
+        synchronized (this) {
+            if (hashOwner != null || !nextReceived()) {
+                return;
+            }
+            hashOwner = token;
+        }
+        try {
+            while (true) {
+                int next;
+                synchronized (this) {
+                    if (!nextReceived()) {
+                        return;
+                    }
+                    next = hashedChunks;
+                }
+                hashFromFile(next, channel, buffer);
+                synchronized (this) {
+                    hashedChunks++;
+                }
+            }
+        } finally {
+            synchronized (this) {
+                if (hashOwner == token) {
+                    hashOwner = null;
+                }
+            }
+        }
+    }
+
+    private boolean nextReceived() {
+        return hashedChunks < chunkCount && received.get(hashedChunks);
+    }
+
+    // 해시 담당 스레드만 호출 - digest 는 담당이 바뀔 때 synchronized 로 넘겨짐
+    private void hashFromFile(int index, FileChannel channel, ByteBuffer buffer) throws IOException {
+        long position = offsetOf(index);
+        long end = position + lengthOf(index);
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), end - position));
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("청크 데이터가 부족합니다. index=" + index);
+            }
+            buffer.flip();
+            digest.update(buffer);
+            position += read;
+        }
+    }
+
+    public synchronized boolean isReceivedAll() {
+        return received.cardinality() == chunkCount;
+    }
+
+    public synchronized boolean isComplete() {
+        return received.cardinality() == chunkCount && hashedChunks == chunkCount;
+    }
+
+    public synchronized boolean tryStartCompleting() {
+        if (completing) {
+            return false;
+        }
+        completing = true;
+        return true;
+    }
+
+    /** complete 실패 - 다시 시도할 수 있도록 */
+    public synchronized void finishCompleting() {
+        completing = false;
+    }
+
+    /** 전체 해시 - 한 번 계산하면 보관 (complete 재시도 시 같은 값) */
+    public synchronized String finishHash() {
+        if (finalHash == null) {
+            finalHash = HexFormat.of().formatHex(digest.digest());
+        }
+        return finalHash;
+    }
+
+    public synchronized List<Integer> missingChunks() {
+        List<Integer> missing = new ArrayList<>();
+        for (int i = received.nextClearBit(0); i < chunkCount; i = received.nextClearBit(i + 1)) {
+            missing.add(i);
+        }
+        return missing;
+    }
+
+    public synchronized int receivedCount() {
+        return received.cardinality();
+    }
+
+    public FileChannel openChannel() throws IOException {
+        return FileChannel.open(partFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+}
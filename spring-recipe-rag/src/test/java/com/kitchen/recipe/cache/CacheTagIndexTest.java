@@ -0,0 +1,185 @@
+package com.kitchen.recipe.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CacheTagIndexTest {
+
+    private static final long TAG_TTL_MS = 3_600_000;
+
+    private StringRedisTemplate redisTemplate;
+    private ZSetOperations<String, String> zSetOps;
+    private SimpleMeterRegistry meterRegistry;
+    private CacheTagIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        zSetOps = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOps);
+        meterRegistry = new SimpleMeterRegistry();
+        index = new CacheTagIndex(redisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(index, "tagTtlMs", TAG_TTL_MS);
+        ReflectionTestUtils.setField(index, "maxMembers", 1000);
+    }
+
+    // 스크립트 호출 인자 (KEYS, ARGV) 기록 후 trimmed 반환
+    private AtomicReference<Object[]> stubTagScript(Long trimmed) {
+        AtomicReference<Object[]> call = new AtomicReference<>();
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(inv -> {
+            call.set(inv.getRawArguments());
+            return trimmed;
+        });
+        return call;
+    }
+
+    @Test
+    void 태그가_없으면_기록하지_않는다() {
+        index.tag("recipes::1", List.of(), Duration.ofMinutes(5));
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void 캐시_TTL_을_만료_시각으로_기록한다() {
+        AtomicReference<Object[]> call = stubTagScript(0L);
+
+        index.tag("recipes::1", List.of("appliance:oven", "appliance:all"), Duration.ofMinutes(5));
+
+        Object[] raw = call.get();
+        assertThat(raw[1]).isEqualTo(List.of("cache:tags:appliance:oven", "cache:tags:appliance:all"));
+        Object[] argv = (Object[]) raw[2];
+        long now = Long.parseLong((String) argv[1]);
+        long expiresAt = Long.parseLong((String) argv[2]);
+        assertThat(argv[0]).isEqualTo("recipes::1");
+        assertThat(expiresAt - now).isEqualTo(Duration.ofMinutes(5).toMillis());
+        assertThat(argv[3]).isEqualTo("1000");
+    }
+
+    @Test
+    void 캐시_TTL_이_없으면_태그_추적_기간을_쓴다() {
+        AtomicReference<Object[]> call = stubTagScript(0L);
+
+        index.tag("recipes::1", List.of("appliance:oven"), null);
+        Object[] argv = (Object[]) call.get()[2];
+        assertThat(Long.parseLong((String) argv[2]) - Long.parseLong((String) argv[1])).isEqualTo(TAG_TTL_MS);
+
+        index.tag("recipes::1", List.of("appliance:oven"), Duration.ZERO);
+        argv = (Object[]) call.get()[2];
+        assertThat(Long.parseLong((String) argv[2]) - Long.parseLong((String) argv[1])).isEqualTo(TAG_TTL_MS);
+    }
+
+    @Test
+    void 최대_항목_수를_넘겨_잘라낸_수를_센다() {
+        stubTagScript(3L);
+
+        index.tag("recipes::1", List.of("appliance:oven"), Duration.ofMinutes(5));
+
+        assertThat(meterRegistry.counter("recipe.cache.tag.trimmed").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void 태그_기록_실패는_삼킨다() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        index.tag("recipes::1", List.of("appliance:oven"), Duration.ofMinutes(5));
+
+        assertThat(meterRegistry.counter("recipe.cache.tag.trimmed").count()).isZero();
+    }
+
+    private static Set<TypedTuple<String>> members(String prefix, int count, long expiresAt) {
+        Set<TypedTuple<String>> set = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            set.add(new DefaultTypedTuple<>(prefix + i, (double) expiresAt));
+        }
+        return set;
+    }
+
+    @Test
+    void 삭제는_나눠_꺼내고_만료되지_않은_키만_지운다() {
+        long future = System.currentTimeMillis() + 60_000;
+        long past = System.currentTimeMillis() - 60_000;
+        Set<TypedTuple<String>> last = members("live:", 2, future);
+        last.addAll(members("expired:", 3, past));
+        when(zSetOps.popMin("cache:tags:appliance:oven", 500))
+                .thenReturn(members("recipes::", 500, future), last);
+        List<List<String>> unlinked = new ArrayList<>();
+        when(redisTemplate.unlink(anyList())).thenAnswer(inv -> {
+            List<String> keys = new ArrayList<>(inv.getArgument(0));
+            unlinked.add(keys);
+            return (long) keys.size();
+        });
+
+        index.evictNow(List.of("cache:tags:appliance:oven"));
+
+        verify(zSetOps, times(2)).popMin("cache:tags:appliance:oven", 500);
+        assertThat(unlinked).hasSize(2);
+        assertThat(unlinked.get(0)).hasSize(500);
+        assertThat(unlinked.get(1)).containsExactly("live:0", "live:1");
+        assertThat(meterRegistry.counter("recipe.cache.tag.evictions").count()).isEqualTo(502.0);
+    }
+
+    @Test
+    void 삭제는_max_members_범위까지만_반복한다() {
+        long future = System.currentTimeMillis() + 60_000;
+        when(zSetOps.popMin(eq("cache:tags:appliance:oven"), anyLong()))
+                .thenAnswer(inv -> members("recipes::", 500, future));
+        when(redisTemplate.unlink(anyList())).thenReturn(500L);
+
+        index.evictNow(List.of("cache:tags:appliance:oven"));
+
+        // max-members 1000 → 1000 / 500 + 1 = 3 번
+        verify(zSetOps, times(3)).popMin("cache:tags:appliance:oven", 500);
+    }
+
+    @Test
+    void 모두_만료된_배치는_지우지_않는다() {
+        long past = System.currentTimeMillis() - 60_000;
+        when(zSetOps.popMin("cache:tags:appliance:oven", 500)).thenReturn(members("recipes::", 3, past));
+
+        index.evictNow(List.of("cache:tags:appliance:oven"));
+
+        verify(redisTemplate, never()).unlink(anyList());
+        assertThat(meterRegistry.counter("recipe.cache.tag.evictions").count()).isZero();
+    }
+
+    @Test
+    void 삭제_실패는_삼킨다() {
+        doThrow(new RedisConnectionFailureException("down")).when(zSetOps).popMin(any(), anyLong());
+
+        index.evictNow(List.of("cache:tags:appliance:oven"));
+
+        verify(redisTemplate, never()).unlink(anyList());
+    }
+}
@@ -0,0 +1,81 @@
+package com.kitchen.recipe.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.kitchen.recipe.config.CacheLeases.WaitResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CacheLeasesTest {
+
+    private static final byte[] VALUE_KEY = "recipe_search::김치".getBytes(StandardCharsets.UTF_8);
+
+    private StringRedisTemplate redisTemplate;
+    private SimpleMeterRegistry registry;
+    private CacheLeases leases;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        registry = new SimpleMeterRegistry();
+        leases = new CacheLeases(redisTemplate, registry);
+    }
+
+    // EXISTS 값 키, EXISTS lease 키 결과
+    private void exists(Boolean value, Boolean lease) {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(value, lease));
+    }
+
+    private double count(String result) {
+        return registry.counter("recipe.cache.lease", "cache", "recipe_search", "result", result).count();
+    }
+
+    @Test
+    void 값이_생기면_READY() {
+        exists(true, true);
+
+        assertThat(leases.await("recipe_search", VALUE_KEY, "recipe_search::김치", Duration.ofSeconds(1)))
+                .isEqualTo(WaitResult.READY);
+        assertThat(count("waited")).isEqualTo(1.0);
+    }
+
+    @Test
+    void 값_없이_lease_가_풀리면_RELEASED() {
+        exists(false, false);
+
+        assertThat(leases.await("recipe_search", VALUE_KEY, "recipe_search::김치", Duration.ofSeconds(1)))
+                .isEqualTo(WaitResult.RELEASED);
+        assertThat(count("released")).isEqualTo(1.0);
+    }
+
+    @Test
+    void 계속_계산_중이면_TIMEOUT() {
+        exists(false, true);
+
+        assertThat(leases.await("recipe_search", VALUE_KEY, "recipe_search::김치", Duration.ofMillis(120)))
+                .isEqualTo(WaitResult.TIMEOUT);
+        assertThat(count("timeout")).isEqualTo(1.0);
+    }
+
+    @Test
+    void Redis_장애면_lease_를_다시_시도하도록_RELEASED() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(leases.await("recipe_search", VALUE_KEY, "recipe_search::김치", Duration.ofSeconds(1)))
+                .isEqualTo(WaitResult.RELEASED);
+    }
+}
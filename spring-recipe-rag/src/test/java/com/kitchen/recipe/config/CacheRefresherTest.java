@@ -0,0 +1,101 @@
+package com.kitchen.recipe.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CacheRefresherTest {
+
+    private static final byte[] KEY = "recipes::search:김치".getBytes(StandardCharsets.UTF_8);
+    private static final Duration WINDOW = Duration.ofSeconds(30);
+
+    private RedisKeyCommands keyCommands;
+    private CacheRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        RedisConnection connection = mock(RedisConnection.class);
+        keyCommands = mock(RedisKeyCommands.class);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        refresher = new CacheRefresher(connectionFactory, mock(ThreadPoolTaskExecutor.class),
+                new SimpleMeterRegistry(), mock(CacheLeases.class));
+    }
+
+    private void ttl(Long millis) {
+        when(keyCommands.pTtl(eq(KEY), eq(TimeUnit.MILLISECONDS))).thenReturn(millis);
+    }
+
+    @Test
+    void 남은_TTL_이_창_안이면_갱신한다() {
+        ttl(10_000L);
+
+        assertThat(refresher.isDue("recipes", KEY, WINDOW, 0)).isTrue();
+    }
+
+    @Test
+    void 남은_TTL_이_창_밖이고_beta_가_0_이면_갱신하지_않는다() {
+        ttl(60_000L);
+
+        assertThat(refresher.isDue("recipes", KEY, WINDOW, 0)).isFalse();
+        assertThat(refresher.isDue("recipes", KEY, null, 0)).isFalse();
+    }
+
+    @Test
+    void 만료_없음_키_없음_조회_실패는_갱신하지_않는다() {
+        ttl(-1L);
+        assertThat(refresher.isDue("recipes", KEY, WINDOW, 1.0)).isFalse();
+
+        ttl(-2L);
+        assertThat(refresher.isDue("recipes", KEY, WINDOW, 1.0)).isFalse();
+
+        ttl(null);
+        assertThat(refresher.isDue("recipes", KEY, WINDOW, 1.0)).isFalse();
+
+        when(keyCommands.pTtl(any(byte[].class), any(TimeUnit.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        assertThat(refresher.isDue("recipes", KEY, WINDOW, 1.0)).isFalse();
+    }
+
+    @Test
+    void 재계산_시간을_모르면_XFetch_로_갱신하지_않는다() {
+        ttl(60_000L);
+
+        assertThat(refresher.isDue("recipes", KEY, null, 1_000_000)).isFalse();
+    }
+
+    @Test
+    void 재계산_시간이_길수록_일찍_갱신한다() {
+        ttl(60_000L);
+        refresher.timed("recipes", () -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "value";
+        });
+
+        // delta(20ms 이상) * beta 가 남은 TTL 보다 훨씬 크면 사실상 항상 갱신
+        assertThat(refresher.isDue("recipes", KEY, null, 1_000_000)).isTrue();
+        // 다른 캐시의 재계산 시간은 영향 없음
+        assertThat(refresher.isDue("products", KEY, null, 1_000_000)).isFalse();
+    }
+}
@@ -0,0 +1,61 @@
+package com.kitchen.recipe.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+class CompactCacheSerializerTest {
+
+    @SuppressWarnings("unchecked")
+    private final CompactCacheSerializer serializer = new CompactCacheSerializer(
+            new ObjectMapper(new SmileFactory()), mock(RedisSerializer.class), 64);
+
+    private static List<String> largeValue() {
+        return Collections.nCopies(200, "김치찌개 레시피");
+    }
+
+    @Test
+    void 압축된_값을_그대로_복원한다() {
+        byte[] bytes = serializer.serialize(largeValue());
+
+        assertThat(bytes[2]).isEqualTo((byte) 0x01);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(largeValue());
+    }
+
+    @Test
+    void 잘린_압축_본문은_역직렬화_오류() {
+        byte[] bytes = serializer.serialize(largeValue());
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 5);
+
+        assertThatThrownBy(() -> serializer.deserialize(truncated)).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void 헤더의_원본_길이가_실제보다_길면_역직렬화_오류() {
+        byte[] bytes = serializer.serialize(largeValue());
+        ByteBuffer.wrap(bytes, 3, 4).putInt(ByteBuffer.wrap(bytes, 3, 4).getInt() + 100);
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes)).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void 손상된_압축_본문은_역직렬화_오류() {
+        byte[] bytes = serializer.serialize(largeValue());
+        // 시퀀스 토큰/오프셋 영역을 임의 값으로 덮어씀
+        Arrays.fill(bytes, 7, bytes.length, (byte) 0xFF);
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes)).isInstanceOf(SerializationException.class);
+    }
+}
@@ -0,0 +1,61 @@
+package com.kitchen.recipe.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.kitchen.recipe.config.PolicyRedisCacheWriter.MissSketch;
+
+class MissSketchTest {
+
+    private static byte[] key(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void 처음_보는_키는_0() {
+        MissSketch sketch = new MissSketch();
+
+        assertThat(sketch.estimate(key("recipes::search:김치"))).isZero();
+    }
+
+    @Test
+    void 추정치는_실제_횟수보다_작지_않다() {
+        MissSketch sketch = new MissSketch();
+        for (int i = 0; i < 1000; i++) {
+            sketch.increment(key("noise:" + i));
+        }
+        for (int i = 0; i < 3; i++) {
+            sketch.increment(key("recipes::search:김치"));
+        }
+
+        assertThat(sketch.estimate(key("recipes::search:김치"))).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    void 바이트_내용이_같으면_같은_키() {
+        MissSketch sketch = new MissSketch();
+        sketch.increment(key("recipes::1"));
+        sketch.increment(key("recipes::1"));
+
+        assertThat(sketch.estimate(key("recipes::1"))).isEqualTo(2);
+    }
+
+    @Test
+    void 표본_크기만큼_쌓이면_모든_카운터를_절반으로_줄인다() {
+        MissSketch sketch = new MissSketch();
+        for (int i = 0; i < 10; i++) {
+            sketch.increment(key("old"));
+        }
+        // 표본 크기 = WIDTH(2^14) * 10 - 10번째 이후 나머지를 다른 키 하나로 채움
+        int sampleSize = (1 << 14) * 10;
+        for (int i = 10; i < sampleSize; i++) {
+            sketch.increment(key("hot"));
+        }
+
+        assertThat(sketch.estimate(key("old"))).isEqualTo(5);
+        assertThat(sketch.estimate(key("hot"))).isEqualTo((sampleSize - 10) / 2);
+    }
+}
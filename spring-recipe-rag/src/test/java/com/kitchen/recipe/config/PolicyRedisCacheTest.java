@@ -0,0 +1,66 @@
+package com.kitchen.recipe.config;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.util.unit.DataSize;
+
+import com.kitchen.recipe.cache.CacheTagIndex;
+import com.kitchen.recipe.config.CachePolicyProperties.Policy;
+import com.kitchen.recipe.config.PolicyRedisCacheManager.PolicyRedisCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PolicyRedisCacheTest {
+
+    private RedisCacheWriter delegate;
+    private CacheTagIndex tagIndex;
+    private PolicyRedisCache cache;
+
+    @BeforeEach
+    void setUp() {
+        Policy policy = new Policy(Duration.ofMinutes(30), DataSize.ofBytes(64), 0, true,
+                null, 0.0, null, Duration.ofSeconds(2));
+        CachePolicyProperties properties = new CachePolicyProperties();
+        properties.setDefaults(policy);
+        delegate = mock(RedisCacheWriter.class);
+        tagIndex = mock(CacheTagIndex.class);
+        RedisCacheWriter writer = new PolicyRedisCacheWriter(delegate, properties, new SimpleMeterRegistry());
+        cache = new PolicyRedisCache("user_favorites_page", writer,
+                RedisCacheConfiguration.defaultCacheConfig().entryTtl(policy.getTtl()), policy,
+                mock(CacheRefresher.class), mock(CacheLeases.class), tagIndex);
+    }
+
+    @Test
+    void 저장된_값은_태그를_기록한다() {
+        cache.put("1", "ok");
+
+        verify(delegate).put(eq("user_favorites_page"), any(), any(), any());
+        verify(tagIndex).tag(eq("user_favorites_page::1"), any(), any());
+    }
+
+    @Test
+    void 크기_제한으로_거절된_값은_태그를_기록하지_않는다() {
+        cache.put("1", "x".repeat(200));
+
+        verify(delegate, never()).put(anyString(), any(), any(), any());
+        verify(tagIndex, never()).tag(anyString(), any(), any());
+    }
+
+    @Test
+    void putIfAbsent_로_거절된_값도_태그를_기록하지_않는다() {
+        cache.putIfAbsent("1", "x".repeat(200));
+
+        verify(tagIndex, never()).tag(anyString(), any(), any());
+    }
+}
@@ -0,0 +1,84 @@
+package com.kitchen.recipe.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class RevokedTokenBloomFilterTest {
+
+    private static final long ROTATION_MS = 15 * 60 * 1000;
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    private RevokedTokenBloomFilter filter(int expectedInsertions, double falsePositiveRate) {
+        return new RevokedTokenBloomFilter(expectedInsertions, falsePositiveRate, ROTATION_MS, now::get);
+    }
+
+    @Test
+    void 넣은_jti_는_항상_양성() {
+        RevokedTokenBloomFilter filter = filter(1000, 0.001);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("jti-" + i);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(filter.mightContain("jti-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void 오탐률은_설정값_근처로_유지된다() {
+        RevokedTokenBloomFilter filter = filter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("revoked-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("active-" + i)) {
+                falsePositives++;
+            }
+        }
+        // 기대값 1% - 여유를 두고 2% 이하
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+
+    @Test
+    void 크기는_기대_삽입_수와_오탐률로_계산된다() {
+        RevokedTokenBloomFilter filter = filter(100_000, 0.001);
+
+        // m = -n ln p / (ln 2)^2 ≈ 1,437,759, k = m/n ln 2 ≈ 10
+        assertThat(filter.getNumBits()).isBetween(1_430_000, 1_440_000);
+        assertThat(filter.getNumHashes()).isEqualTo(10);
+    }
+
+    @Test
+    void 회전_한_번은_살아남고_두_번째에_사라진다() {
+        RevokedTokenBloomFilter filter = filter(1000, 0.001);
+        filter.put("jti-old");
+
+        now.addAndGet(ROTATION_MS);   // current → previous
+        assertThat(filter.mightContain("jti-old")).isTrue();
+
+        filter.put("jti-new");
+        now.addAndGet(ROTATION_MS);   // previous 폐기
+        assertThat(filter.mightContain("jti-old")).isFalse();
+        assertThat(filter.mightContain("jti-new")).isTrue();
+    }
+
+    @Test
+    void 회전_주기_전에는_회전하지_않는다() {
+        RevokedTokenBloomFilter filter = filter(1000, 0.001);
+        filter.put("jti-1");
+
+        now.addAndGet(ROTATION_MS - 1);
+        filter.put("jti-2");
+        now.addAndGet(ROTATION_MS - 1);
+
+        // 한 번만 회전했으므로 둘 다 남아 있음
+        assertThat(filter.mightContain("jti-1")).isTrue();
+        assertThat(filter.mightContain("jti-2")).isTrue();
+    }
+}
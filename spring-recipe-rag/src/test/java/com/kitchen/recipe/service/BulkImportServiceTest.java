@@ -0,0 +1,141 @@
+package com.kitchen.recipe.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kitchen.recipe.entity.IngestJob;
+import com.kitchen.recipe.entity.IngestJobStatus;
+import com.kitchen.recipe.exception.AppException;
+import com.kitchen.recipe.repository.IngestJobRepository;
+import com.kitchen.recipe.storage.PdfBlobStore;
+import com.kitchen.recipe.storage.PdfBlobStore.StoredBlob;
+import com.kitchen.recipe.storage.PdfPageCounter;
+
+class BulkImportServiceTest {
+
+    @TempDir
+    Path root;
+
+    private PdfBlobStore blobStore;
+    private IngestJobService ingestJobService;
+    private IngestJobRepository ingestJobRepository;
+    private BulkImportService service;
+    private final List<IngestJob> registered = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        blobStore = mock(PdfBlobStore.class);
+        ingestJobService = mock(IngestJobService.class);
+        ingestJobRepository = mock(IngestJobRepository.class);
+        service = new BulkImportService(blobStore, mock(PdfPageCounter.class), ingestJobService, ingestJobRepository);
+        ReflectionTestUtils.setField(service, "importRoot", root.toString());
+        ReflectionTestUtils.setField(service, "maxEntries", 100);
+        ReflectionTestUtils.setField(service, "maxFileSize", 1024L);
+        ReflectionTestUtils.setField(service, "maxTotalSize", 1024L);
+
+        // 스트림을 끝까지 읽어 크기 제한이 적용되도록
+        when(blobStore.store(any())).thenAnswer(inv -> {
+            try (InputStream in = inv.getArgument(0)) {
+                byte[] bytes = in.readAllBytes();
+                return new StoredBlob("hash-" + bytes.length, root.resolve("blob"), bytes.length, false);
+            }
+        });
+        when(ingestJobService.register(anyString(), anyString(), anyString(), anyInt(), any(), anyString()))
+                .thenAnswer(inv -> {
+                    IngestJob job = IngestJob.builder()
+                            .id((long) registered.size() + 1)
+                            .status(IngestJobStatus.QUEUED)
+                            .build();
+                    registered.add(job);
+                    return job;
+                });
+        when(ingestJobRepository.findByBatchIdOrderById(anyString())).thenAnswer(inv -> registered);
+    }
+
+    private Path batch(String manifest, String... pdfs) throws Exception {
+        Path dir = Files.createDirectory(root.resolve("batch"));
+        Files.writeString(dir.resolve("manifest.csv"), manifest, StandardCharsets.UTF_8);
+        for (String pdf : pdfs) {
+            Files.write(dir.resolve(pdf), new byte[100]);
+        }
+        return dir;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> items(Map<String, Object> result) {
+        return (List<Map<String, Object>>) result.get("items");
+    }
+
+    @Test
+    void 따옴표로_감싼_쉼표_포함_값을_한_칸으로_읽는다() throws Exception {
+        batch("\uFEFFfileName,applianceType,manufacturer,productName,totalPages\n"
+                + "# 주석\n"
+                + "a.pdf,oven,LG,\"디오스 오븐, 32L\",10\n"
+                + "\n"
+                + "b.pdf,airfryer,\"Philips, Inc.\",\"HD9252 \"\"Essential\"\"\",\n", "a.pdf", "b.pdf");
+
+        service.importDirectory("batch");
+
+        verify(ingestJobService).register(eq("oven"), eq("LG"), eq("디오스 오븐, 32L"), eq(10), any(), anyString());
+        verify(ingestJobService).register(eq("airfryer"), eq("Philips, Inc."), eq("HD9252 \"Essential\""),
+                anyInt(), any(), anyString());
+    }
+
+    @Test
+    void 한_행의_런타임_예외는_그_행만_실패로_기록한다() throws Exception {
+        batch("a.pdf,oven,LG,A\nb.pdf,oven,LG,B\nc.pdf,oven,LG,C\n", "a.pdf", "b.pdf", "c.pdf");
+        when(ingestJobService.register(anyString(), anyString(), eq("B"), anyInt(), any(), anyString()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+        List<Map<String, Object>> items = items(service.importDirectory("batch"));
+
+        assertThat(registered).hasSize(2);
+        assertThat(items).extracting(item -> item.get("status"))
+                .containsExactlyInAnyOrder("QUEUED", "QUEUED", "REJECTED");
+        assertThat(items).filteredOn(item -> "REJECTED".equals(item.get("status")))
+                .extracting(item -> item.get("message"))
+                .containsExactly("Duplicate entry");
+    }
+
+    @Test
+    void 합계_크기를_넘으면_등록하지_않고_거부한다() throws Exception {
+        ReflectionTestUtils.setField(service, "maxTotalSize", 150L);
+        batch("a.pdf,oven,LG,A\nb.pdf,oven,LG,B\n", "a.pdf", "b.pdf");
+
+        assertThatThrownBy(() -> service.importDirectory("batch"))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("합계");
+        verify(blobStore, never()).store(any());
+    }
+
+    @Test
+    void 열이_부족한_행은_형식_오류() throws Exception {
+        batch("a.pdf,oven,\"LG, Inc.\"\n", "a.pdf");
+
+        assertThatThrownBy(() -> service.importDirectory("batch"))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("형식 오류");
+    }
+}
@@ -0,0 +1,318 @@
+package com.kitchen.recipe.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.kitchen.recipe.entity.IngestOutbox;
+import com.kitchen.recipe.entity.IngestOutboxStatus;
+import com.kitchen.recipe.exception.AppException;
+import com.kitchen.recipe.repository.IngestOutboxRepository;
+
+class IngestOutboxRelayTest {
+
+    private static final long LEASE_MS = 60_000;
+
+    private IngestOutboxRepository outboxRepository;
+    private IngestJobService ingestJobService;
+    private IngestOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(IngestOutboxRepository.class);
+        ingestJobService = mock(IngestJobService.class);
+        relay = new IngestOutboxRelay(outboxRepository, ingestJobService, mock(ThreadPoolTaskExecutor.class));
+        ReflectionTestUtils.setField(relay, "maxAttempts", 3);
+        ReflectionTestUtils.setField(relay, "baseBackoffMs", 1000L);
+        ReflectionTestUtils.setField(relay, "maxBackoffMs", 10_000L);
+        ReflectionTestUtils.setField(relay, "leaseMs", LEASE_MS);
+    }
+
+    private static WebClientResponseException response(int status) {
+        return WebClientResponseException.create(status, "status " + status, HttpHeaders.EMPTY,
+                new byte[0], StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void 서버_오류와_408_429_는_재시도한다() {
+        assertThat(IngestOutboxRelay.isRetryable(response(500))).isTrue();
+        assertThat(IngestOutboxRelay.isRetryable(response(503))).isTrue();
+        assertThat(IngestOutboxRelay.isRetryable(response(408))).isTrue();
+        assertThat(IngestOutboxRelay.isRetryable(response(429))).isTrue();
+        assertThat(IngestOutboxRelay.isRetryable(new AppException("일시 오류", 502))).isTrue();
+    }
+
+    @Test
+    void 요청_오류는_재시도하지_않는다() {
+        assertThat(IngestOutboxRelay.isRetryable(response(400))).isFalse();
+        assertThat(IngestOutboxRelay.isRetryable(response(413))).isFalse();
+        assertThat(IngestOutboxRelay.isRetryable(response(422))).isFalse();
+        assertThat(IngestOutboxRelay.isRetryable(new AppException("PDF 없음", 404))).isFalse();
+    }
+
+    @Test
+    void 연결_입출력_타임아웃_일시적_DB_오류는_재시도한다() {
+        WebClientRequestException connect = new WebClientRequestException(new IOException("connection refused"),
+                HttpMethod.POST, URI.create("http://rag/ingest"), HttpHeaders.EMPTY);
+
+        assertThat(IngestOutboxRelay.isRetryable(connect)).isTrue();
+        assertThat(IngestOutboxRelay.isRetryable(new SocketTimeoutException("read timed out"))).isTrue();
+        assertThat(IngestOutboxRelay.isRetryable(new UncheckedIOException(new IOException("disk")))).isTrue();
+        assertThat(IngestOutboxRelay.isRetryable(new TimeoutException())).isTrue();
+        assertThat(IngestOutboxRelay.isRetryable(new QueryTimeoutException("lock wait"))).isTrue();
+    }
+
+    @Test
+    void 원인_체인을_따라가며_분류한다() {
+        assertThat(IngestOutboxRelay.isRetryable(new IllegalStateException("wrap", response(503)))).isTrue();
+        assertThat(IngestOutboxRelay.isRetryable(new RuntimeException(new AppException("잘못된 요청", 400)))).isFalse();
+        // 4xx 가 먼저 나오면 안쪽의 입출력 오류와 관계없이 실패
+        assertThat(IngestOutboxRelay.isRetryable(
+                new AppException("거절된 PDF", 422, new IOException("closed")))).isFalse();
+    }
+
+    @Test
+    void 코드_오류와_영구적_DB_오류는_재시도하지_않는다() {
+        assertThat(IngestOutboxRelay.isRetryable(new NullPointerException())).isFalse();
+        assertThat(IngestOutboxRelay.isRetryable(new IllegalArgumentException("bad"))).isFalse();
+        assertThat(IngestOutboxRelay.isRetryable(new DataIntegrityViolationException("dup"))).isFalse();
+    }
+
+    @Test
+    void 기동_시_복구는_lease_가_지난_행만_해제한다() {
+        LocalDateTime before = LocalDateTime.now();
+
+        relay.recoverOnStartup();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxRepository).releaseExpired(cutoff.capture(), now.capture());
+        assertThat(Duration.between(cutoff.getValue(), now.getValue())).isEqualTo(Duration.ofMillis(LEASE_MS));
+        assertThat(now.getValue()).isAfterOrEqualTo(before);
+        verify(ingestJobService).recoverStuck();
+    }
+
+    @Test
+    void lease_기준_시각은_현재_시각에서_lease_만큼_이전이다() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        assertThat(relay.leaseCutoff(now)).isEqualTo(LocalDateTime.of(2025, 1, 1, 11, 59));
+    }
+
+    private static final LocalDateTime CLAIMED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private IngestOutbox inFlight(int attempts) {
+        IngestOutbox entry = IngestOutbox.builder()
+                .id(1L).ingestJobId(7L).status(IngestOutboxStatus.IN_FLIGHT).attempts(attempts)
+                .nextAttemptAt(CLAIMED_AT).lockedAt(CLAIMED_AT)
+                .build();
+        when(outboxRepository.findById(1L)).thenReturn(Optional.of(entry));
+        when(outboxRepository.finish(eq(1L), any(), any(), any(), any(), any())).thenReturn(1);
+        return entry;
+    }
+
+    // finish(id, lockedAt, status, nextAttemptAt, lastError, now) 인자
+    private record Finish(LocalDateTime lockedAt, IngestOutboxStatus status, LocalDateTime next, String error) {}
+
+    private Finish finished() {
+        ArgumentCaptor<LocalDateTime> lockedAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<IngestOutboxStatus> status = ArgumentCaptor.forClass(IngestOutboxStatus.class);
+        ArgumentCaptor<LocalDateTime> next = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<String> error = ArgumentCaptor.forClass(String.class);
+        verify(outboxRepository).finish(eq(1L), lockedAt.capture(), status.capture(), next.capture(),
+                error.capture(), any());
+        return new Finish(lockedAt.getValue(), status.getValue(), next.getValue(), error.getValue());
+    }
+
+    @Test
+    void 재시도할_수_있는_실패는_백오프_후_다시_대기한다() {
+        inFlight(1);
+        doThrow(response(503)).when(ingestJobService).process(7L);
+        LocalDateTime before = LocalDateTime.now();
+
+        relay.deliver(1L);
+
+        Finish finish = finished();
+        assertThat(finish.status()).isEqualTo(IngestOutboxStatus.PENDING);
+        assertThat(finish.lockedAt()).isEqualTo(CLAIMED_AT);
+        // base 1초 ±20%
+        assertThat(finish.next()).isAfter(before.plusNanos(700_000_000L));
+        verify(ingestJobService).markRetry(eq(7L), eq(1), any(LocalDateTime.class), anyString());
+        verify(ingestJobService, never()).fail(any(), any());
+        verify(outboxRepository, never()).save(any());
+    }
+
+    @Test
+    void 재시도할_수_없는_실패는_바로_DEAD() {
+        inFlight(1);
+        doThrow(new AppException("잘못된 PDF", 400)).when(ingestJobService).process(7L);
+
+        relay.deliver(1L);
+
+        assertThat(finished().status()).isEqualTo(IngestOutboxStatus.DEAD);
+        verify(ingestJobService).fail(7L, "잘못된 PDF");
+        verify(ingestJobService, never()).markRetry(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void 최대_시도_횟수를_넘기면_DEAD() {
+        inFlight(3);
+        doThrow(response(503)).when(ingestJobService).process(7L);
+
+        relay.deliver(1L);
+
+        assertThat(finished().status()).isEqualTo(IngestOutboxStatus.DEAD);
+        verify(ingestJobService).fail(eq(7L), anyString());
+    }
+
+    @Test
+    void 성공하면_DONE() {
+        IngestOutbox entry = inFlight(1);
+        entry.setLastError("이전 오류");
+
+        relay.deliver(1L);
+
+        Finish finish = finished();
+        assertThat(finish.status()).isEqualTo(IngestOutboxStatus.DONE);
+        assertThat(finish.error()).isNull();
+        assertThat(finish.next()).isEqualTo(CLAIMED_AT);
+    }
+
+    @Test
+    void IN_FLIGHT_가_아니면_처리하지_않는다() {
+        IngestOutbox entry = inFlight(1);
+        entry.setStatus(IngestOutboxStatus.PENDING);
+
+        relay.deliver(1L);
+
+        verify(ingestJobService, never()).process(any());
+        verify(outboxRepository, never()).finish(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void lease_를_잃었으면_결과와_작업_상태를_반영하지_않는다() {
+        inFlight(1);
+        when(outboxRepository.finish(eq(1L), any(), any(), any(), any(), any())).thenReturn(0);
+        doThrow(new AppException("잘못된 PDF", 400)).when(ingestJobService).process(7L);
+
+        relay.deliver(1L);
+
+        verify(ingestJobService, never()).fail(any(), any());
+    }
+
+    @Test
+    void 처리_중에는_lease_를_연장하고_연장된_시각으로_결과를_반영한다() {
+        inFlight(1);
+        LocalDateTime renewAt = CLAIMED_AT.plusSeconds(30);   // lease(60초)의 1/3 이 지남
+        when(outboxRepository.renewLease(eq(1L), eq(CLAIMED_AT), any())).thenReturn(1);
+        doAnswer(inv -> {
+            relay.renewLeases(CLAIMED_AT.plusSeconds(10));   // 아직 연장 시점 전
+            relay.renewLeases(renewAt);
+            return null;
+        }).when(ingestJobService).process(7L);
+
+        relay.deliver(1L);
+
+        verify(outboxRepository).renewLease(1L, CLAIMED_AT, renewAt);
+        assertThat(finished().lockedAt()).isEqualTo(renewAt);
+    }
+
+    @Test
+    void 연장에_실패하면_더_연장하지_않는다() {
+        inFlight(1);
+        when(outboxRepository.renewLease(eq(1L), any(), any())).thenReturn(0);
+        doAnswer(inv -> {
+            relay.renewLeases(CLAIMED_AT.plusSeconds(30));
+            relay.renewLeases(CLAIMED_AT.plusSeconds(60));
+            return null;
+        }).when(ingestJobService).process(7L);
+
+        relay.deliver(1L);
+
+        verify(outboxRepository).renewLease(eq(1L), any(), any());
+        assertThat(finished().lockedAt()).isEqualTo(CLAIMED_AT);
+    }
+
+    @Test
+    void 처리가_끝난_행은_연장하지_않는다() {
+        inFlight(1);
+
+        relay.deliver(1L);
+        relay.renewLeases(CLAIMED_AT.plusHours(1));
+
+        verify(outboxRepository, never()).renewLease(any(), any(), any());
+    }
+
+    private ThreadPoolTaskExecutor pollingRelay(int importConcurrency) {
+        ThreadPoolTaskExecutor executor = mock(ThreadPoolTaskExecutor.class, RETURNS_DEEP_STUBS);
+        when(executor.getThreadPoolExecutor().getQueue().remainingCapacity()).thenReturn(100);
+        relay = new IngestOutboxRelay(outboxRepository, ingestJobService, executor);
+        ReflectionTestUtils.setField(relay, "batchSize", 10);
+        ReflectionTestUtils.setField(relay, "leaseMs", LEASE_MS);
+        ReflectionTestUtils.setField(relay, "importConcurrency", importConcurrency);
+        when(outboxRepository.claim(anyLong(), any())).thenReturn(1);
+        return executor;
+    }
+
+    @Test
+    void 가져오기_작업은_남은_동시_처리_한도만큼만_선점한다() {
+        ThreadPoolTaskExecutor executor = pollingRelay(2);
+        when(outboxRepository.findDueIds(eq(IngestOutboxStatus.PENDING), any(), any())).thenReturn(List.of(1L));
+        when(outboxRepository.countInFlightImports()).thenReturn(1L);
+        when(outboxRepository.findDueImportIds(eq(IngestOutboxStatus.PENDING), any(), eq(PageRequest.of(0, 1))))
+                .thenReturn(List.of(2L));
+
+        relay.poll();
+
+        verify(outboxRepository).claim(eq(1L), any());
+        verify(outboxRepository).claim(eq(2L), any());
+        verify(executor, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void 가져오기_한도가_차면_단건_업로드만_선점한다() {
+        ThreadPoolTaskExecutor executor = pollingRelay(2);
+        when(outboxRepository.findDueIds(eq(IngestOutboxStatus.PENDING), any(), any())).thenReturn(List.of(1L));
+        when(outboxRepository.countInFlightImports()).thenReturn(2L);
+
+        relay.poll();
+
+        verify(outboxRepository, never()).findDueImportIds(any(), any(), any());
+        verify(executor).execute(any(Runnable.class));
+    }
+}
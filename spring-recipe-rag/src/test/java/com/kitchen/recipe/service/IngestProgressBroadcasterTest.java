@@ -0,0 +1,90 @@
+package com.kitchen.recipe.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kitchen.recipe.dto.IngestProgressEvent;
+import com.kitchen.recipe.dto.IngestProgressEvent.Phase;
+
+class IngestProgressBroadcasterTest {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private IngestProgressBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        // 전송 작업은 테스트에서 직접 실행
+        ThreadPoolTaskExecutor executor = mock(ThreadPoolTaskExecutor.class);
+        doAnswer(inv -> tasks.add(inv.getArgument(0))).when(executor).execute(any(Runnable.class));
+        broadcaster = new IngestProgressBroadcaster(executor);
+        ReflectionTestUtils.setField(broadcaster, "sseTimeoutMs", 60_000L);
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private Map<?, ?> subscribers() {
+        return (Map<?, ?>) ReflectionTestUtils.getField(broadcaster, "subscribers");
+    }
+
+    @Test
+    void 이벤트_전송은_발행_스레드가_아니라_전송_풀에서_한다() {
+        broadcaster.subscribe(1L, null);
+
+        broadcaster.onProgress(IngestProgressEvent.of(1L, Phase.SENDING, null, null, null));
+        broadcaster.onProgress(IngestProgressEvent.of(1L, Phase.SENT, 10L, 100L, null));
+
+        // 구독자당 전송 작업은 하나만 예약되고 발행 스레드에서는 실행되지 않음
+        assertThat(tasks).hasSize(1);
+        runTasks();
+        assertThat(subscribers().containsKey(1L)).isTrue();
+    }
+
+    @Test
+    void 종료_이벤트_후에는_구독자_목록이_남지_않는다() {
+        broadcaster.subscribe(1L, null);
+        broadcaster.onProgress(IngestProgressEvent.of(1L, Phase.COMPLETED, 3L, null, null));
+        runTasks();
+        assertThat(subscribers()).isEmpty();
+
+        // 종료 뒤 구독 - 보관된 종료 이벤트로 바로 닫히고 빈 목록도 남기지 않음
+        broadcaster.subscribe(1L, null);
+        runTasks();
+        assertThat(subscribers()).isEmpty();
+    }
+
+    @Test
+    void 연결이_끊기면_목록에서_제거한다() {
+        broadcaster.subscribe(1L, null).complete();
+        broadcaster.onProgress(IngestProgressEvent.of(1L, Phase.SENDING, null, null, null));
+        runTasks();
+
+        assertThat(subscribers()).isEmpty();
+    }
+
+    @Test
+    void 전송이_밀린_구독자는_큐가_차면_닫는다() {
+        broadcaster.subscribe(1L, null);
+
+        for (int i = 0; i < 40; i++) {
+            broadcaster.onProgress(IngestProgressEvent.of(1L, Phase.RETRY, (long) i, null, null));
+        }
+
+        assertThat(subscribers()).isEmpty();
+    }
+}
@@ -0,0 +1,148 @@
+package com.kitchen.recipe.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.kitchen.recipe.config.RateLimitProperties;
+import com.kitchen.recipe.config.RateLimitProperties.Route;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimiterServiceTest {
+
+    private RateLimitProperties properties;
+    private StringRedisTemplate redisTemplate;
+    private SimpleMeterRegistry registry;
+    private RateLimiterService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        redisTemplate = mock(StringRedisTemplate.class);
+        registry = new SimpleMeterRegistry();
+        service = new RateLimiterService(properties, redisTemplate, registry);
+    }
+
+    private double count(String result) {
+        return registry.counter("recipe.ratelimit.requests", "route", "upload", "result", result).count();
+    }
+
+    // 충전 없는 버킷 - 시간에 따라 결과가 바뀌지 않도록
+    private Route route(long capacity, long ipCapacity) {
+        Route route = new Route();
+        route.setName("upload");
+        route.setPatterns(List.of("/api/admin/upload"));
+        route.setCapacity(capacity);
+        route.setIpCapacity(ipCapacity);
+        properties.getRoutes().add(route);
+        return route;
+    }
+
+    @Test
+    void 사용자_버킷을_다_쓰면_거부하고_Retry_After_를_준다() {
+        Route route = route(2, 0);
+
+        assertThat(service.tryAcquire(route, "alice", "10.0.0.1")).isZero();
+        assertThat(service.tryAcquire(route, "alice", "10.0.0.1")).isZero();
+        assertThat(service.tryAcquire(route, "alice", "10.0.0.1")).isPositive();
+        // 다른 사용자는 별도 버킷
+        assertThat(service.tryAcquire(route, "bob", "10.0.0.1")).isZero();
+
+        assertThat(count("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void 충전되지_않는_버킷의_Retry_After_는_1시간으로_제한된다() {
+        Route route = route(1, 0);
+
+        service.tryAcquire(route, "alice", null);
+
+        assertThat(service.tryAcquire(route, "alice", null)).isEqualTo(3600);
+    }
+
+    @Test
+    void IP_에서_거부되면_사용자_토큰을_돌려준다() {
+        Route route = route(2, 1);
+
+        assertThat(service.tryAcquire(route, "alice", "10.0.0.1")).isZero();
+        // IP 버킷 소진 → 거부, 사용자 토큰은 반환되어야 함
+        assertThat(service.tryAcquire(route, "alice", "10.0.0.1")).isPositive();
+        // 다른 IP 에서는 남은 사용자 토큰 1개로 허용
+        assertThat(service.tryAcquire(route, "alice", "10.0.0.2")).isZero();
+        assertThat(service.tryAcquire(route, "alice", "10.0.0.3")).isPositive();
+    }
+
+    @Test
+    void 비로그인_요청은_IP_버킷만_사용한다() {
+        Route route = route(1, 2);
+
+        assertThat(service.tryAcquire(route, null, "10.0.0.1")).isZero();
+        assertThat(service.tryAcquire(route, null, "10.0.0.1")).isZero();
+        assertThat(service.tryAcquire(route, null, "10.0.0.1")).isPositive();
+    }
+
+    @Test
+    void 지표는_경로별_허용_거부_건수를_센다() {
+        Route route = route(1, 0);
+        service.tryAcquire(route, "alice", null);
+        service.tryAcquire(route, "alice", null);
+
+        assertThat(count("allowed")).isEqualTo(1);
+        assertThat(count("rejected")).isEqualTo(1);
+        assertThat(registry.get("recipe.ratelimit.buckets").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void 동기화하면_전역_잔량으로_로컬_버킷을_보정한다() {
+        Route route = route(5, 0);
+        service.tryAcquire(route, "alice", null);
+        doReturn("0").when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        service.reconcile();
+
+        // 다른 노드가 전역 버킷을 모두 쓴 상태 → 로컬에 4개가 남아 있어도 거부
+        assertThat(service.tryAcquire(route, "alice", null)).isPositive();
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.captor();
+        verify(redisTemplate).execute(any(RedisScript.class), keys.capture(), any(Object[].class));
+        assertThat(keys.getValue()).containsExactly("ratelimit:upload:u:alice");
+    }
+
+    @Test
+    void Redis_장애_시_소비량을_다음_주기로_넘긴다() {
+        Route route = route(5, 0);
+        service.tryAcquire(route, "alice", null);
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(redisTemplate).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        service.reconcile();
+
+        // 로컬 제한만으로 계속 동작
+        assertThat(service.tryAcquire(route, "alice", null)).isZero();
+    }
+
+    @Test
+    void 비활성화되면_동기화하지_않는다() {
+        Route route = route(5, 0);
+        service.tryAcquire(route, "alice", null);
+        properties.setEnabled(false);
+
+        service.reconcile();
+
+        verifyNoInteractions(redisTemplate);
+    }
+}
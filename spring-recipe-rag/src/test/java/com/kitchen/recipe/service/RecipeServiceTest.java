@@ -0,0 +1,20 @@
+package com.kitchen.recipe.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class RecipeServiceTest {
+
+    @Test
+    void 제목_키는_대소문자와_악센트를_무시한다() {
+        assertThat(RecipeService.titleKey("Crème Brûlée")).isEqualTo(RecipeService.titleKey("creme brulee"));
+        assertThat(RecipeService.titleKey("KIMCHI Pancake ")).isEqualTo(RecipeService.titleKey("kimchi pancake"));
+    }
+
+    @Test
+    void 한글_제목은_그대로_구분한다() {
+        assertThat(RecipeService.titleKey("김치찌개")).isEqualTo(RecipeService.titleKey("김치찌개"));
+        assertThat(RecipeService.titleKey("김치찌개")).isNotEqualTo(RecipeService.titleKey("김치찜"));
+    }
+}
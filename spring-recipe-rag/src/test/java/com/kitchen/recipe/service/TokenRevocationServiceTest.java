@@ -0,0 +1,150 @@
+package com.kitchen.recipe.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.kitchen.recipe.security.JwtTokenProvider;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+
+class TokenRevocationServiceTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOps;
+    private JwtTokenProvider jwtTokenProvider;
+    private TokenRevocationService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOps = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        jwtTokenProvider = mock(JwtTokenProvider.class);
+        when(jwtTokenProvider.getExpirationTime()).thenReturn(15 * 60 * 1000L);
+        service = newService(1000);
+    }
+
+    private TokenRevocationService newService(int expectedInsertions) {
+        TokenRevocationService created = new TokenRevocationService(redisTemplate, jwtTokenProvider);
+        ReflectionTestUtils.setField(created, "expectedInsertions", expectedInsertions);
+        ReflectionTestUtils.setField(created, "falsePositiveRate", 0.001);
+        created.init();
+        return created;
+    }
+
+    private void token(String accessToken, String jti, long remainingMs) {
+        Claims claims = Jwts.claims().id(jti).subject("user@kitchen.com")
+                .expiration(new Date(System.currentTimeMillis() + remainingMs)).build();
+        when(jwtTokenProvider.parseClaims(accessToken)).thenReturn(claims);
+    }
+
+    @Test
+    void 폐기하면_남은_수명만큼_저장하고_다른_노드에_알린다() {
+        token("access", "jti-1", 60_000);
+
+        service.revoke("access");
+
+        verify(valueOps).set(eq("auth:revoked:jti-1"), eq("1"), any(Duration.class));
+        verify(redisTemplate).convertAndSend(TokenRevocationService.REVOKED_CHANNEL, "jti-1");
+    }
+
+    @Test
+    void 만료된_토큰은_폐기하지_않는다() {
+        when(jwtTokenProvider.parseClaims("expired")).thenThrow(new ExpiredJwtException(null, null, "expired"));
+
+        service.revoke("expired");
+
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    void 필터에_없으면_Redis_를_조회하지_않는다() {
+        assertThat(service.isRevoked("jti-unknown")).isFalse();
+        assertThat(service.isRevoked(null)).isFalse();
+
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    void 폐기한_토큰은_Redis_확인_후_거부한다() {
+        token("access", "jti-1", 60_000);
+        service.revoke("access");
+        when(redisTemplate.hasKey("auth:revoked:jti-1")).thenReturn(true);
+
+        assertThat(service.isRevoked("jti-1")).isTrue();
+    }
+
+    @Test
+    void 필터_오탐은_Redis_에_없으면_통과시킨다() {
+        // 64 비트 필터를 가득 채워 모든 jti 가 양성이 되도록
+        TokenRevocationService tiny = newService(1);
+        for (int i = 0; i < 500; i++) {
+            tiny.onMessage(new DefaultMessage(new byte[0], ("jti-" + i).getBytes(StandardCharsets.UTF_8)), null);
+        }
+        when(redisTemplate.hasKey("auth:revoked:jti-active")).thenReturn(false);
+
+        assertThat(tiny.isRevoked("jti-active")).isFalse();
+        verify(redisTemplate).hasKey("auth:revoked:jti-active");
+    }
+
+    @Test
+    void 양성_판정에서_Redis_장애면_거부한다() {
+        service.onMessage(new DefaultMessage(new byte[0], "jti-1".getBytes(StandardCharsets.UTF_8)), null);
+        when(redisTemplate.hasKey("auth:revoked:jti-1")).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(service.isRevoked("jti-1")).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 기동_시_Redis_의_폐기_목록으로_필터를_재구성한다() {
+        Iterator<String> keys = List.of("auth:revoked:jti-1", "auth:revoked:jti-2").iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(inv -> keys.hasNext());
+        when(cursor.next()).thenAnswer(inv -> keys.next());
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(redisTemplate.hasKey(anyString())).thenReturn(true);
+
+        service.rebuildFromRedis();
+
+        assertThat(service.isRevoked("jti-1")).isTrue();
+        assertThat(service.isRevoked("jti-2")).isTrue();
+        assertThat(service.isRevoked("jti-3")).isFalse();
+        verify(redisTemplate, never()).hasKey("auth:revoked:jti-3");
+        verify(cursor).close();
+    }
+
+    @Test
+    void 재구성_실패는_삼킨다() {
+        when(redisTemplate.scan(any(ScanOptions.class))).thenThrow(new RedisConnectionFailureException("down"));
+
+        service.rebuildFromRedis();
+
+        assertThat(service.isRevoked("jti-1")).isFalse();
+    }
+}